@@ -0,0 +1,56 @@
+package com.custom.recommend_user_service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.exception.ApiException;
+import com.custom.recommend_user_service.exception.ExpectedApiException;
+
+/**
+ * ApiException 생성/처리 비용 (스택 트레이스 유무)
+ *
+ * <p>필터 체인 깊이를 흉내 내기 위해 {@code depth}만큼 재귀 호출한 뒤 던지고 받는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiExceptionBenchmark {
+
+    @Param({"10", "100"})
+    private int depth;
+
+    @Benchmark
+    public Object apiException() {
+        try {
+            return throwAt(depth, false);
+        } catch (final ApiException e) {
+            return e.getResultCode();
+        }
+    }
+
+    @Benchmark
+    public Object expectedApiException() {
+        try {
+            return throwAt(depth, true);
+        } catch (final ApiException e) {
+            return e.getResultCode();
+        }
+    }
+
+    private static Object throwAt(final int remaining, final boolean expected) {
+        if (remaining == 0) {
+            throw expected
+                ? new ExpectedApiException(ErrorCode.LOGIN_FAILED)
+                : new ApiException(ErrorCode.LOGIN_FAILED);
+        }
+        return throwAt(remaining - 1, expected);
+    }
+}
@@ -0,0 +1,59 @@
+package com.custom.recommend_user_service.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import com.custom.recommend_user_service.config.JwtKeyProperties;
+import com.custom.recommend_user_service.security.jwt.JwtAlgorithm;
+import com.custom.recommend_user_service.security.jwt.JwtKeyRing;
+import com.custom.recommend_user_service.security.jwt.JwtTokenProvider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 벤치마크용 JwtTokenProvider 생성 (알고리즘별 임시 키)
+ */
+final class JwtFixtures {
+
+    static final long ACCESS_TOKEN_VALIDITY_SECONDS = 1800;
+
+    // HS512 최소 길이(64바이트) 이상
+    private static final String HMAC_SECRET =
+        "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtFixtures() {
+    }
+
+    static JwtTokenProvider tokenProvider(final JwtAlgorithm algorithm) throws Exception {
+        final String kid = "bench-" + algorithm.getId();
+        final JwtKeyProperties.Key key = switch (algorithm) {
+            case HS256, HS512 -> new JwtKeyProperties.Key(kid, algorithm, null, null, HMAC_SECRET);
+            case ES256 -> asymmetricKey(kid, algorithm, ecKeyPair());
+            case EdDSA -> asymmetricKey(kid, algorithm, KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+        };
+
+        final JwtKeyProperties properties = new JwtKeyProperties(kid, List.of(key), Duration.ofHours(1));
+        return new JwtTokenProvider(new JwtKeyRing(properties, ""), ACCESS_TOKEN_VALIDITY_SECONDS, new SimpleMeterRegistry());
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static JwtKeyProperties.Key asymmetricKey(final String kid, final JwtAlgorithm algorithm, final KeyPair keyPair) {
+        final Base64.Encoder encoder = Base64.getEncoder();
+        return new JwtKeyProperties.Key(
+            kid,
+            algorithm,
+            encoder.encodeToString(keyPair.getPrivate().getEncoded()),
+            encoder.encodeToString(keyPair.getPublic().getEncoded()),
+            null
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.custom.recommend_user_service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import com.custom.recommend_user_service.security.jwt.JwtAlgorithm;
+import com.custom.recommend_user_service.security.jwt.JwtTokenProvider;
+import com.custom.recommend_user_service.security.jwt.VerifiedToken;
+
+/**
+ * JWT 발급/검증 (알고리즘별)
+ *
+ * <p>로그인/재발급 경로의 서명 비용과 요청마다의 검증 비용(캐시 미적중 시)을 비교한다.
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    @Param({"HS256", "HS512", "ES256", "EdDSA"})
+    private JwtAlgorithm algorithm;
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = JwtFixtures.tokenProvider(algorithm);
+        token = tokenProvider.createAccessToken(1L, "ROLE_USER", 0);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return tokenProvider.createAccessToken(1L, "ROLE_USER", 0);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,38 @@
+package com.custom.recommend_user_service.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.custom.recommend_user_service.common.TimeOrderedTransactionIdGenerator;
+
+/**
+ * 트랜잭션 ID 생성 (UUID.randomUUID 대비)
+ *
+ * <p>경합을 보기 위해 여러 스레드에서 동시에 실행한다. (-t 로 스레드 수 변경)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class TransactionIdBenchmark {
+
+    private final TimeOrderedTransactionIdGenerator generator = new TimeOrderedTransactionIdGenerator();
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return generator.generate();
+    }
+}
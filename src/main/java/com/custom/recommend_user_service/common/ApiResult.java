@@ -2,8 +2,6 @@ package com.custom.recommend_user_service.common;
 
 import java.time.LocalDateTime;
 
-import java.util.UUID;
-
 import org.springframework.http.ResponseEntity;
 
 import com.custom.recommend_user_service.enums.ResultCode;
@@ -43,7 +41,7 @@ public record ApiResult<T>(
             resultCode.getMessage(),
             data,
             LocalDateTime.now(),
-            UUID.randomUUID().toString()
+            TransactionIds.current()
         );
     }
 
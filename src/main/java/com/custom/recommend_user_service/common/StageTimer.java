@@ -0,0 +1,152 @@
+package com.custom.recommend_user_service.common;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.custom.recommend_user_service.monitoring.jfr.StageEvent;
+import com.custom.recommend_user_service.monitoring.jfr.UserIdHashes;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 단계별 처리 시간 측정
+ *
+ * <p>요청 하나를 여러 단계(조회, 해시, 저장 등)로 나눠 단계별/전체 시간을 기록한다.
+ * <ul>
+ *   <li>{name}.stage.duration{stage, outcome}: 단계별 시간 (실패한 단계만 실패 outcome)</li>
+ *   <li>{name}.duration{outcome}: 전체 시간</li>
+ *   <li>percentile histogram 발행 (1ms ~ 5s), Prometheus 등에서 histogram_quantile 로 집계</li>
+ * </ul>
+ * Timer는 (stage, outcome) 조합별로 처음 사용할 때 한 번 등록하고 재사용한다.
+ * 단계마다 JFR {@link StageEvent}도 기록한다. (녹화 중이 아니면 기록하지 않음)
+ */
+public class StageTimer {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry;
+    private final String name;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> totalTimers = new ConcurrentHashMap<>();
+
+    public StageTimer(final MeterRegistry meterRegistry, final String name) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+    }
+
+    /**
+     * 측정 시작 (요청 스레드 전용, 공유하지 않는다)
+     */
+    public Recording start() {
+        return new Recording(System.nanoTime());
+    }
+
+    private Timer stageTimer(final String stage, final String outcome) {
+        return stageTimers.computeIfAbsent(stage + '|' + outcome, key -> histogram(name + ".stage.duration")
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+    }
+
+    private Timer totalTimer(final String outcome) {
+        return totalTimers.computeIfAbsent(outcome, key -> histogram(name + ".duration")
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+    }
+
+    private static Timer.Builder histogram(final String meterName) {
+        return Timer.builder(meterName)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED)
+            .maximumExpectedValue(MAX_EXPECTED);
+    }
+
+    /**
+     * 요청 하나의 측정 상태
+     */
+    public final class Recording {
+
+        private final long startedAt;
+        private String stage;
+        private long stageStartedAt;
+        private StageEvent event;
+        private Long userId;
+
+        private Recording(final long startedAt) {
+            this.startedAt = startedAt;
+            this.stageStartedAt = startedAt;
+        }
+
+        /**
+         * 다음 단계 시작 (진행 중이던 단계는 성공으로 기록)
+         */
+        public void begin(final String nextStage) {
+            final long now = System.nanoTime();
+            endStage(OUTCOME_SUCCESS, now);
+            stage = nextStage;
+            stageStartedAt = now;
+            event = new StageEvent();
+            event.begin();
+        }
+
+        /**
+         * 대상 사용자 (JFR 이벤트에 해시로 기록)
+         */
+        public void userId(final Long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * 진행 중인 단계 (없으면 null)
+         */
+        public String stage() {
+            return stage;
+        }
+
+        /**
+         * 성공 종료
+         */
+        public void success() {
+            end(OUTCOME_SUCCESS);
+        }
+
+        /**
+         * 실패 종료 (진행 중이던 단계와 전체를 outcome으로 기록)
+         */
+        public void fail(final String outcome) {
+            end(outcome);
+        }
+
+        private void end(final String outcome) {
+            final long now = System.nanoTime();
+            endStage(outcome, now);
+            stage = null;
+            totalTimer(outcome).record(now - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        private void endStage(final String outcome, final long now) {
+            if (stage != null) {
+                stageTimer(stage, outcome).record(now - stageStartedAt, TimeUnit.NANOSECONDS);
+                commitEvent(outcome);
+            }
+        }
+
+        private void commitEvent(final String outcome) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = name;
+                event.stage = stage;
+                event.outcome = outcome;
+                event.userIdHash = UserIdHashes.hash(userId);
+                event.commit();
+            }
+        }
+    }
+}
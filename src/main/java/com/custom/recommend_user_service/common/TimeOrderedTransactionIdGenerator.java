@@ -0,0 +1,43 @@
+package com.custom.recommend_user_service.common;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순 트랜잭션 ID (UUID v7 형식)
+ *
+ * <p>UUID.randomUUID()는 공유 SecureRandom을 사용해 높은 RPS에서 경합이 생긴다.
+ * 이 생성기는 스레드별 난수 상태({@link ThreadLocalRandom})만 사용하므로 잠금/공유 쓰기가 없다.
+ * <pre>
+ * | unix ms (48) | ver=7 (4) | rand_a (12) | var (2) | rand_b (62) |
+ * </pre>
+ * <ul>
+ *   <li>시간 순: 상위 48비트가 밀리초 시각 (같은 밀리초 안의 순서는 보장하지 않음)</li>
+ *   <li>유일성: 밀리초마다 74비트 난수. 노드 ID 설정이 필요 없고 스레드 수/수명과 무관하다.
+ *       (같은 밀리초에 1억 개를 만들어도 충돌 확률 약 2.6 × 10⁻⁷)</li>
+ * </ul>
+ * 요청 추적용 식별자이므로 보안 토큰으로 쓰지 않는다. (예측 불가능성이 필요하면 UUID.randomUUID())
+ */
+public class TimeOrderedTransactionIdGenerator implements TransactionIdGenerator {
+
+    private static final long RAND_A_MASK = (1L << 12) - 1;
+    private static final long RAND_B_MASK = (1L << 62) - 1;
+
+    @Override
+    public String generate() {
+        return next().toString();
+    }
+
+    /**
+     * 다음 ID (UUID)
+     */
+    public UUID next() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long msb = (System.currentTimeMillis() << 16)
+            | 0x7000L
+            | (random.nextLong() & RAND_A_MASK);
+        final long lsb = 0x8000_0000_0000_0000L | (random.nextLong() & RAND_B_MASK);
+
+        return new UUID(msb, lsb);
+    }
+}
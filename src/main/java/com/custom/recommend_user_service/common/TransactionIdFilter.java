@@ -0,0 +1,54 @@
+package com.custom.recommend_user_service.common;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트랜잭션 ID 필터 (가장 먼저 실행)
+ *
+ * <p>{@code X-Transaction-Id} 요청 헤더가 있으면 그대로 사용하고, 없으면 새로 만든다.
+ * 요청 동안 MDC(transactionId)에 두고 응답 헤더로도 돌려준다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TransactionIdFilter extends OncePerRequestFilter {
+
+    // 외부에서 들어온 값은 로그/응답에 그대로 쓰이므로 형식 제한
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final TransactionIdGenerator transactionIdGenerator;
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        final String inbound = request.getHeader(TransactionIds.HEADER);
+        final String transactionId = inbound != null && VALID_ID.matcher(inbound).matches()
+            ? inbound
+            : transactionIdGenerator.generate();
+
+        MDC.put(TransactionIds.MDC_KEY, transactionId);
+        response.setHeader(TransactionIds.HEADER, transactionId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(TransactionIds.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.custom.recommend_user_service.common;
+
+/**
+ * 트랜잭션 ID 생성기
+ *
+ * <p>응답(ApiResult, ErrorResponse)과 로그(MDC)에 남는 요청 식별자를 만든다.
+ * 다른 구현을 쓰려면 이 타입의 빈을 등록한다. (기본: {@link TimeOrderedTransactionIdGenerator})
+ */
+@FunctionalInterface
+public interface TransactionIdGenerator {
+
+    /**
+     * 새 트랜잭션 ID
+     */
+    String generate();
+}
@@ -0,0 +1,25 @@
+package com.custom.recommend_user_service.common;
+
+import org.slf4j.MDC;
+
+/**
+ * 현재 요청의 트랜잭션 ID
+ *
+ * <p>{@link TransactionIdFilter}가 MDC에 넣은 값을 반환한다.
+ * 요청 밖(스케줄러 등)에서는 새로 생성한다.
+ */
+public final class TransactionIds {
+
+    public static final String HEADER = "X-Transaction-Id";
+    public static final String MDC_KEY = "transactionId";
+
+    private static final TransactionIdGenerator FALLBACK = new TimeOrderedTransactionIdGenerator();
+
+    private TransactionIds() {
+    }
+
+    public static String current() {
+        final String transactionId = MDC.get(MDC_KEY);
+        return transactionId != null ? transactionId : FALLBACK.generate();
+    }
+}
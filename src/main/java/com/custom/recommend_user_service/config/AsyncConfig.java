@@ -0,0 +1,15 @@
+package com.custom.recommend_user_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정 (@Async)
+ *
+ * <p>실행기는 Spring Boot 기본 applicationTaskExecutor를 사용한다.
+ * 가상 스레드 모드에서는 작업마다 가상 스레드로 실행된다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,164 @@
+package com.custom.recommend_user_service.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 동시 커넥션 사용 수 제한 DataSource
+ *
+ * <p>가상 스레드에서는 요청 수만큼 스레드가 생기므로, 커넥션 풀 크기만큼의 permit으로
+ * JDBC 작업에 들어가는 스레드 수를 제한한다.
+ * <ul>
+ *   <li>대기 스레드는 최대 {@code maxWaiting}개. 넘으면 기다리지 않고 바로 거부한다.</li>
+ *   <li>대기 중 {@code acquireTimeout} 안에 permit을 얻지 못해도 거부한다.</li>
+ *   <li>거부 시 {@link ConnectionLimitExceededException} (응답은 SERVICE_BUSY)</li>
+ * </ul>
+ * permit은 {@link Connection#close()} 시 반납된다.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public ConnectionLimitingDataSource(
+        final DataSource target,
+        final int maxConcurrency,
+        final int maxWaiting,
+        final long acquireTimeoutMillis
+    ) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasing(super.getConnection());
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+        try {
+            return releasing(super.getConnection(username, password));
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 사용 중인 permit 수
+     */
+    public int getActive() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * permit 대기 중인 스레드 수
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * 대기 한도 / 대기 시간 초과로 거부된 횟수
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        // 대기 한도 초과 시 바로 거부
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new ConnectionLimitExceededException(
+                "Connection limit reached: " + maxConcurrency + " in use, " + maxWaiting + " waiting");
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new ConnectionLimitExceededException(
+                    "Connection limit reached: " + maxConcurrency + " in use, waited "
+                        + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * close() 시 permit을 한 번만 반납하는 커넥션 프록시
+     */
+    private Connection releasing(final Connection connection) {
+        final AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        permits.release();
+                    }
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (final InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    /**
+     * 동시 사용 제한으로 커넥션을 내주지 않음 (부하 상황에서 자주 발생하므로 스택 트레이스 생략)
+     */
+    public static class ConnectionLimitExceededException extends SQLTransientConnectionException {
+
+        public ConnectionLimitExceededException(final String reason) {
+            super(reason);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.custom.recommend_user_service.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.custom.recommend_user_service.security.jwt.JwtAlgorithm;
+
+/**
+ * JWT 서명키 설정
+ *
+ * <pre>
+ * jwt:
+ *   signing:
+ *     active-kid: 2026-10-a
+ *     keys:
+ *       - kid: 2026-10-a
+ *         algorithm: ES256
+ *         private-key: (Base64 PKCS#8)
+ *         public-key: (Base64 X.509)
+ *       - kid: 2026-07-a          # 검증 전용 (교체 전 키)
+ *         algorithm: ES256
+ *         public-key: ...
+ * </pre>
+ *
+ * @param activeKid 서명에 사용할 키 ID (없으면 jwt.secret 으로 HS512 서명)
+ * @param keys 검증 가능한 키 목록 (교체 중인 이전 키 포함)
+ * @param jwksMaxAge JWKS 응답 캐시 시간
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+public record JwtKeyProperties(
+    String activeKid,
+    List<Key> keys,
+    @DefaultValue("1h") Duration jwksMaxAge
+) {
+    public JwtKeyProperties {
+        keys = keys != null ? List.copyOf(keys) : List.of();
+    }
+
+    /**
+     * 개별 키 설정
+     *
+     * @param kid 키 ID (JWS 헤더 kid)
+     * @param algorithm 서명 알고리즘
+     * @param privateKey 비대칭 개인키 (Base64 PKCS#8), 검증 전용이면 생략
+     * @param publicKey 비대칭 공개키 (Base64 X.509)
+     * @param secret 대칭키 secret (HS256/HS512)
+     */
+    public record Key(
+        String kid,
+        JwtAlgorithm algorithm,
+        String privateKey,
+        String publicKey,
+        String secret
+    ) {}
+}
@@ -0,0 +1,65 @@
+package com.custom.recommend_user_service.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 인증 API 요청 제한 설정
+ *
+ * <pre>
+ * security:
+ *   rate-limit:
+ *     routes:
+ *       - path: /api/auth/login
+ *         per-ip:    { requests: 20, period: 1m, burst: 10 }
+ *         per-email: { requests: 5,  period: 1m, burst: 5 }
+ * </pre>
+ *
+ * @param enabled 사용 여부
+ * @param maximumKeys 보관할 최대 버킷 수 (IP/이메일 합계)
+ * @param idleTimeout 이 시간 동안 요청이 없는 버킷은 제거
+ * @param maxBodySize 이메일 기준 제한 경로의 최대 요청 본문 크기 (초과 시 413, 본문을 끝까지 읽지 않음)
+ * @param routes 경로별 제한 (경로는 정확히 일치해야 한다)
+ */
+@ConfigurationProperties(prefix = "security.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100000") long maximumKeys,
+    @DefaultValue("10m") Duration idleTimeout,
+    @DefaultValue("4KB") DataSize maxBodySize,
+    List<Route> routes
+) {
+    public RateLimitProperties {
+        routes = routes != null ? List.copyOf(routes) : List.of();
+    }
+
+    /**
+     * 경로별 제한
+     *
+     * @param path 요청 경로 (예: /api/auth/login)
+     * @param perIp 클라이언트 IP 기준 제한
+     * @param perEmail 요청 본문 email 기준 제한 (생략 가능)
+     */
+    public record Route(
+        String path,
+        Limit perIp,
+        Limit perEmail
+    ) {}
+
+    /**
+     * 토큰 버킷
+     *
+     * @param requests period 동안 허용 요청 수 (충전 속도)
+     * @param period 충전 주기
+     * @param burst 한 번에 허용하는 최대 요청 수 (버킷 크기)
+     */
+    public record Limit(
+        long requests,
+        Duration period,
+        long burst
+    ) {}
+}
@@ -0,0 +1,12 @@
+package com.custom.recommend_user_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (주기적 flush, 만료 데이터 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,9 @@
 package com.custom.recommend_user_service.config;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -10,6 +12,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -18,8 +21,15 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.custom.recommend_user_service.security.filter.JwtAuthenticationFilter;
+import com.custom.recommend_user_service.security.filter.RateLimitFilter;
 import com.custom.recommend_user_service.security.hadler.JwtAccessDeniedHandler;
 import com.custom.recommend_user_service.security.hadler.JwtAuthenticationEntryPoint;
+import com.custom.recommend_user_service.security.hadler.OAuth2LoginFailureHandler;
+import com.custom.recommend_user_service.security.hadler.OAuth2LoginSuccessHandler;
+import com.custom.recommend_user_service.security.oauth2.CookieAuthorizationRequestRepository;
+import com.custom.recommend_user_service.security.password.BcryptStrengthCalibrator;
+import com.custom.recommend_user_service.service.CustomOAuth2UserService;
+import com.custom.recommend_user_service.service.CustomOidcUserService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,8 +40,14 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    private final CustomOidcUserService customOidcUserService;
+    private final CookieAuthorizationRequestRepository cookieAuthorizationRequestRepository;
+    private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+    private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
 
     @Bean
     public SecurityFilterChain securityFilterChain(final HttpSecurity http) throws Exception {
@@ -55,10 +71,17 @@ public class SecurityConfig {
             
             // 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 로그아웃은 Access Token 필요
+                .requestMatchers("/api/auth/logout").authenticated()
+
+                // JFR 녹화 제어/덤프는 관리자만 (아래 /actuator/** 허용보다 먼저)
+                .requestMatchers("/actuator/jfr", "/actuator/jfr/**").hasRole("ADMIN")
+
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers(
                     "/api/auth/**",           // 회원가입, 로그인
                     "/api/oauth2/**",         // OAuth2 로그인
+                    "/.well-known/**",        // JWKS (공개키)
                     "/health",                // 헬스체크
                     "/actuator/**",           // Actuator
                     "/error"                  // 에러 페이지
@@ -71,10 +94,33 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             
+            // 소셜 로그인 (/api/oauth2/authorization/{provider} → /api/oauth2/callback/{provider})
+            .oauth2Login(oauth2 -> oauth2
+                .authorizationEndpoint(endpoint -> endpoint
+                    .baseUri("/api/oauth2/authorization")
+                    // 인가 요청은 암호화 쿠키에 보관 (세션 미사용, 어느 노드든 콜백 처리)
+                    .authorizationRequestRepository(cookieAuthorizationRequestRepository)
+                )
+                .redirectionEndpoint(endpoint -> endpoint.baseUri("/api/oauth2/callback/*"))
+                .userInfoEndpoint(userInfo -> userInfo
+                    .userService(customOAuth2UserService)
+                    // OIDC: 검증된 ID 토큰으로 처리 (userinfo 미호출)
+                    .oidcUserService(customOidcUserService)
+                )
+                .successHandler(oAuth2LoginSuccessHandler)
+                .failureHandler(oAuth2LoginFailureHandler)
+            )
+
             // JWT 필터 추가
             .addFilterBefore(
                 jwtAuthenticationFilter, 
                 UsernamePasswordAuthenticationFilter.class
+            )
+
+            // 요청 제한 필터 (JWT 검증 전)
+            .addFilterBefore(
+                rateLimitFilter,
+                JwtAuthenticationFilter.class
             );
 
         return http.build();
@@ -101,9 +147,29 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 암호화
+     *
+     * <p>{bcrypt} prefix 형식으로 저장하고, strength는 서버 시작 시 목표 해시 시간에 맞춰 보정한다.
+     * (security.password.bcrypt.strength 지정 시 보정 생략)
+     * <p>prefix 없는 기존 해시도 검증되며, 로그인 성공 시 현재 strength로 재해시된다.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        @Value("${security.password.bcrypt.strength:0}") final int fixedStrength,
+        @Value("${security.password.bcrypt.target-hash-millis:80}") final long targetHashMillis,
+        @Value("${security.password.bcrypt.min-strength:10}") final int minStrength,
+        @Value("${security.password.bcrypt.max-strength:14}") final int maxStrength
+    ) {
+        final int strength = fixedStrength > 0
+            ? fixedStrength
+            : BcryptStrengthCalibrator.calibrate(targetHashMillis, minStrength, maxStrength);
+
+        final DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+            "bcrypt",
+            Map.of("bcrypt", new BCryptPasswordEncoder(strength))
+        );
+        // prefix 없는 기존 bcrypt 해시
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return encoder;
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.custom.recommend_user_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.custom.recommend_user_service.common.TimeOrderedTransactionIdGenerator;
+import com.custom.recommend_user_service.common.TransactionIdGenerator;
+
+/**
+ * 트랜잭션 ID 생성기 설정
+ *
+ * <p>시각 + 스레드별 난수로 만들므로 노드별 설정이 필요 없다.
+ */
+@Configuration
+public class TransactionIdConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TransactionIdGenerator transactionIdGenerator() {
+        return new TimeOrderedTransactionIdGenerator();
+    }
+}
@@ -0,0 +1,72 @@
+package com.custom.recommend_user_service.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 모드 설정 ({@code spring.threads.virtual.enabled=true}, virtual-threads 프로필)
+ *
+ * <p>Tomcat 요청 처리, @Async, @Scheduled 는 Spring Boot가 가상 스레드로 전환한다.
+ * 여기서는 Hikari DataSource를 {@link ConnectionLimitingDataSource}로 감싸
+ * JDBC 작업 동시 실행 수를 풀 크기로 제한한다. (풀 대기가 무제한으로 쌓이지 않도록)
+ * <ul>
+ *   <li>최대 대기 스레드 수: {@code datasource.connection-limit.max-waiting} (초과 시 즉시 SERVICE_BUSY)</li>
+ *   <li>permit 대기 시간: {@code datasource.connection-limit.acquire-timeout-millis}</li>
+ *   <li>메트릭: datasource.connection_limit.active / waiting / rejected</li>
+ * </ul>
+ * bcrypt는 {@code PasswordHashingExecutor} 플랫폼 스레드에서 실행되므로 가상 스레드 carrier를 점유하지 않는다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+        @Value("${datasource.connection-limit.max-waiting:200}") final int maxWaiting,
+        @Value("${datasource.connection-limit.acquire-timeout-millis:3000}") final long acquireTimeoutMillis
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    log.info("[VirtualThreadConfig] DataSource 동시 사용 제한: {} (풀 크기), 최대 대기: {}",
+                        hikari.getMaximumPoolSize(), maxWaiting);
+                    return new ConnectionLimitingDataSource(
+                        hikari, hikari.getMaximumPoolSize(), maxWaiting, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(final DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ConnectionLimitingDataSource limited)) {
+                return;
+            }
+            Gauge.builder("datasource.connection_limit.active", limited, ConnectionLimitingDataSource::getActive)
+                .register(registry);
+            Gauge.builder("datasource.connection_limit.waiting", limited, ConnectionLimitingDataSource::getWaiting)
+                .description("커넥션 permit 대기 중인 스레드 수")
+                .register(registry);
+            FunctionCounter.builder("datasource.connection_limit.rejected", limited, ConnectionLimitingDataSource::getRejected)
+                .description("대기 한도 / 대기 시간 초과로 거부된 횟수")
+                .register(registry);
+        };
+    }
+}
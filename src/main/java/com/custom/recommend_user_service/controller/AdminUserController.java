@@ -0,0 +1,43 @@
+package com.custom.recommend_user_service.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.custom.recommend_user_service.common.ApiResult;
+import com.custom.recommend_user_service.dto.response.UserImportResponse;
+import com.custom.recommend_user_service.service.UserImportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/users")
+@Tag(name = "사용자 관리", description = "관리자용 사용자 API")
+public class AdminUserController {
+
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final UserImportService userImportService;
+
+    @Operation(
+        summary = "사용자 대량 등록",
+        description = "NDJSON(한 줄에 사용자 하나)으로 사용자를 등록합니다. 배치별 처리량과 거부된 행을 반환합니다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "등록 완료 (일부 행 거부 포함)"
+    )
+    @PostMapping(value = "/import", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<ApiResult<UserImportResponse>> importUsers(InputStream body) {
+        UserImportResponse response = userImportService.importUsers(body);
+
+        return ResponseEntity.ok(ApiResult.success(response));
+    }
+}
@@ -1,23 +1,29 @@
 package com.custom.recommend_user_service.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.custom.recommend_user_service.common.ApiResult;
 import com.custom.recommend_user_service.dto.request.LoginRequest;
+import com.custom.recommend_user_service.dto.request.LogoutRequest;
+import com.custom.recommend_user_service.dto.request.RefreshTokenRequest;
 import com.custom.recommend_user_service.dto.request.SignupRequest;
 import com.custom.recommend_user_service.dto.response.LoginResponse;
+import com.custom.recommend_user_service.dto.response.TokenResponse;
+import com.custom.recommend_user_service.security.jwt.VerifiedToken;
 import com.custom.recommend_user_service.service.AuthService;
+import com.custom.recommend_user_service.service.RefreshTokenService;
 import com.custom.recommend_user_service.service.UserService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -31,6 +37,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
     @Operation(
         summary = "로그인",
@@ -66,4 +73,42 @@ public class AuthController {
 
         return ResponseEntity.ok(ApiResult.success());
     }
+
+    @Operation(
+        summary = "토큰 재발급",
+        description = "Refresh Token으로 Access Token과 새 Refresh Token을 발급합니다. 사용한 Refresh Token은 폐기됩니다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "재발급 성공"
+    )
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResult<TokenResponse>> refresh(
+        @Valid @RequestBody RefreshTokenRequest request
+    ) {
+        TokenResponse response = refreshTokenService.rotate(request.refreshToken());
+
+        return ResponseEntity.ok(ApiResult.success(response));
+    }
+
+    @Operation(
+        summary = "로그아웃",
+        description = "현재 Access Token을 만료 전까지 폐기하고, 전달된 Refresh Token을 폐기합니다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "로그아웃 성공"
+    )
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResult<Void>> logout(
+        Authentication authentication,
+        @RequestBody(required = false) LogoutRequest request
+    ) {
+        authService.logout(
+            (VerifiedToken) authentication.getDetails(),
+            request != null ? request.refreshToken() : null
+        );
+
+        return ResponseEntity.ok(ApiResult.success());
+    }
 }
@@ -0,0 +1,40 @@
+package com.custom.recommend_user_service.controller;
+
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.custom.recommend_user_service.config.JwtKeyProperties;
+import com.custom.recommend_user_service.security.jwt.JwtKeyRing;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 공개키 배포
+ *
+ * <p>다른 서비스는 이 키로 토큰을 로컬 검증한다. (ApiResult로 감싸지 않는 표준 JWKS 형식)
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "JWT 검증용 공개키")
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtKeyProperties jwtKeyProperties;
+
+    @Operation(
+        summary = "JWKS 조회",
+        description = "Access Token 서명 검증용 공개키 목록(RFC 7517)을 반환합니다."
+    )
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(jwtKeyProperties.jwksMaxAge()).cachePublic())
+            .body(jwtKeyRing.jwkSet());
+    }
+}
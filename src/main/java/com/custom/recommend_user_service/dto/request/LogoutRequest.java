@@ -0,0 +1,9 @@
+package com.custom.recommend_user_service.dto.request;
+
+/**
+ * 로그아웃 요청 DTO
+ * @param refreshToken 함께 폐기할 Refresh Token (선택)
+ */
+public record LogoutRequest(
+    String refreshToken
+) {}
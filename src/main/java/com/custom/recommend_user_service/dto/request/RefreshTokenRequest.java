@@ -0,0 +1,12 @@
+package com.custom.recommend_user_service.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 토큰 재발급 요청 DTO
+ */
+public record RefreshTokenRequest(
+
+    @NotBlank(message = "리프레시 토큰은 필수입니다.")
+    String refreshToken
+) {}
@@ -0,0 +1,26 @@
+package com.custom.recommend_user_service.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 사용자 대량 등록 요청 (NDJSON 한 줄)
+ *
+ * <p>password(평문) 또는 passwordHash(기존 시스템의 bcrypt 해시) 중 하나가 필요하다.
+ */
+public record UserImportRequest(
+
+    @NotBlank(message = "이메일은 필수입니다.")
+    @Email(message = "올바른 이메일 형식이 아닙니다.")
+    @Size(max = 100, message = "이메일은 100자를 초과할 수 없습니다.")
+    String email,
+
+    String password,
+
+    String passwordHash,
+
+    @NotBlank(message = "이름은 필수입니다.")
+    @Size(min = 2, max = 50, message = "이름은 2~50자 사이여야 합니다.")
+    String name
+) {}
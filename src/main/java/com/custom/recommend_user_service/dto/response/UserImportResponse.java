@@ -0,0 +1,50 @@
+package com.custom.recommend_user_service.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 사용자 대량 등록 결과
+ */
+@Schema(description = "사용자 대량 등록 결과")
+public record UserImportResponse(
+
+    @Schema(description = "전체 행 수", example = "100000")
+    long totalRows,
+
+    @Schema(description = "등록된 행 수", example = "99990")
+    long importedRows,
+
+    @Schema(description = "거부된 행 수", example = "10")
+    long rejectedRows,
+
+    @Schema(description = "전체 소요 시간 (ms)", example = "61000")
+    long elapsedMillis,
+
+    @Schema(description = "배치별 처리 결과")
+    List<BatchResult> batches,
+
+    @Schema(description = "거부된 행 (최대 1000건)")
+    List<RejectedRow> rejected
+) {
+    /**
+     * 배치별 처리 결과
+     */
+    public record BatchResult(
+        int batch,
+        int imported,
+        int rejected,
+        long elapsedMillis,
+        long rowsPerSecond
+    ) {}
+
+    /**
+     * 거부된 행
+     */
+    public record RejectedRow(
+        long line,
+        String email,
+        String reason
+    ) {}
+}
@@ -5,27 +5,38 @@ import java.time.LocalDateTime;
 import com.custom.recommend_user_service.enums.Provider;
 import com.custom.recommend_user_service.enums.Role;
 import com.custom.recommend_user_service.enums.UserStatus;
+import com.custom.recommend_user_service.service.UserCacheInvalidationListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    uniqueConstraints = @UniqueConstraint(name = "uk_users_provider_provider_id", columnNames = {"provider", "provider_id"})
+)
+@EntityListeners(UserCacheInvalidationListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
+    // pooled sequence (allocationSize = 50) → Hibernate insert batching 가능
+    // DB 시퀀스 INCREMENT BY 도 50 이어야 한다. (db/001_users_id_sequence_pooled.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     // === OAuth 정보 (소셜 로그인용) ===
@@ -69,6 +80,13 @@ public class User {
     @Column
     private LocalDateTime passwordChangedAt;
 
+    // === 토큰 무효화 ===
+    @Column(nullable = false)
+    private Integer tokenVersion;  // 이보다 낮은 ver 클레임의 토큰은 거부
+
+    @Column
+    private LocalDateTime tokenVersionUpdatedAt;
+
     // === 타임스탬프 ===
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -95,6 +113,7 @@ public class User {
         user.role = Role.USER;
         user.status = UserStatus.ACTIVE;
         user.loginFailCount = 0;
+        user.tokenVersion = 0;
         user.passwordChangedAt = LocalDateTime.now();
         user.createdAt = LocalDateTime.now();
         return user;
@@ -120,12 +139,21 @@ public class User {
         user.role = Role.USER;
         user.status = UserStatus.ACTIVE;
         user.loginFailCount = 0;
+        user.tokenVersion = 0;
         user.createdAt = LocalDateTime.now();
         return user;
     }
 
     // === 비즈니스 메서드 ===
 
+    /**
+     * 발급된 모든 토큰 무효화 (토큰 버전 증가)
+     */
+    public void invalidateTokens() {
+        this.tokenVersion++;
+        this.tokenVersionUpdatedAt = LocalDateTime.now();
+    }
+
     /**
      * 로그인 성공 처리
      */
@@ -178,6 +206,7 @@ public class User {
         this.password = newEncodedPassword;
         this.passwordChangedAt = LocalDateTime.now();
         this.loginFailCount = 0;
+        invalidateTokens();
     }
 
     /**
@@ -195,6 +224,7 @@ public class User {
      */
     public void changeStatus(UserStatus newStatus) {
         this.status = newStatus;
+        invalidateTokens();
     }
 
     /**
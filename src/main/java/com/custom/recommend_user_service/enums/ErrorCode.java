@@ -28,6 +28,9 @@ public enum ErrorCode implements ResultCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "E-C004", "허용되지 않은 메서드", "지원하지 않는 HTTP 메서드입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E-C999", "서버 오류", "서버 내부 오류가 발생했습니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "E-C005", "접근 거부", "해당 요청에 대한 접근 권한이 없습니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "E-C006", "요청 처리 지연", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "E-C007", "요청 한도 초과", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "E-C008", "요청 본문 크기 초과", "요청 본문이 너무 큽니다."),
 
     // ==================== Auth (인증/인가) ====================
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "E-A001", "인증 필요", "인증이 필요합니다."),
@@ -36,6 +39,7 @@ public enum ErrorCode implements ResultCode {
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "E-A004", "만료된 토큰", "토큰이 만료되었습니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "E-A005", "유효하지 않은 리프레시 토큰", "리프레시 토큰이 유효하지 않습니다."),
     LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "E-A006", "로그인 실패", "이메일 또는 비밀번호가 올바르지 않습니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "E-A007", "폐기된 토큰", "폐기된 토큰입니다. 다시 로그인해주세요."),
 
     // ==================== User (사용자) ====================
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "E-U001", "사용자 없음", "사용자를 찾을 수 없습니다."),
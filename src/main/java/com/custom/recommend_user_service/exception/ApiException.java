@@ -48,6 +48,15 @@ public class ApiException extends RuntimeException {
         this.customMessage = customMessage;
     }
 
+    /**
+     * 스택 트레이스 기록 여부 지정 (예상된 실패용, {@link ExpectedApiException})
+     */
+    protected ApiException(ResultCode resultCode, String customMessage, boolean writableStackTrace) {
+        super(customMessage != null ? customMessage : resultCode.getMessage(), null, false, writableStackTrace);
+        this.resultCode = resultCode;
+        this.customMessage = customMessage;
+    }
+
     /**
      * 응답에 사용할 메시지 반환
      */
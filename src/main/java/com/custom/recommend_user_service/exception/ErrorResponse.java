@@ -2,6 +2,7 @@ package com.custom.recommend_user_service.exception;
 
 import java.time.LocalDateTime;
 
+import com.custom.recommend_user_service.common.TransactionIds;
 import com.custom.recommend_user_service.enums.ResultCode;
 
 /**
@@ -15,6 +16,7 @@ import com.custom.recommend_user_service.enums.ResultCode;
  * @param status HTTP 상태 코드
  * @param timestamp 발생 시각
  * @param path 요청 경로
+ * @param transactionId 트랜잭션 ID (X-Transaction-Id, 로그 MDC와 동일)
  *
  * @since 1.0
  */
@@ -24,7 +26,8 @@ public record ErrorResponse(
     String message,
     Integer status,
     LocalDateTime timestamp,
-    String path
+    String path,
+    String transactionId
 ) {
     /**
      * ResultCode(ErrorCode 포함)를 기반으로 ErrorResponse 생성
@@ -36,7 +39,8 @@ public record ErrorResponse(
             resultCode.getMessage(),
             resultCode.getStatus(),
             LocalDateTime.now(),
-            path
+            path,
+            TransactionIds.current()
         );
     }
 
@@ -50,7 +54,8 @@ public record ErrorResponse(
             customMessage,
             resultCode.getStatus(),
             LocalDateTime.now(),
-            path
+            path,
+            TransactionIds.current()
         );
     }
 }
\ No newline at end of file
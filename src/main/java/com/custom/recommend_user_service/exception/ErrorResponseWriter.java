@@ -0,0 +1,122 @@
+package com.custom.recommend_user_service.exception;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.custom.recommend_user_service.common.TransactionIds;
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.enums.ResultCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 필터/시큐리티 핸들러용 에러 응답 작성기
+ *
+ * <p>컨트롤러 밖(필터, AuthenticationEntryPoint, AccessDeniedHandler)에서 {@link ErrorResponse}와
+ * 같은 형식의 JSON을 쓴다. ErrorCode별 고정 부분(code/title/message/status)은 시작 시 한 번 직렬화해 두고,
+ * 요청마다 timestamp/path/transactionId만 이어 붙여 출력 스트림에 바로 쓴다. (ObjectMapper 미사용)
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final Map<ResultCode, byte[]> prefixes = new HashMap<>();
+    private final ObjectMapper objectMapper;
+
+    public ErrorResponseWriter(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (final ErrorCode errorCode : ErrorCode.values()) {
+            prefixes.put(errorCode, renderPrefix(errorCode));
+        }
+    }
+
+    /**
+     * 에러 응답 작성 (상태 코드 포함)
+     */
+    public void write(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final ResultCode resultCode
+    ) throws IOException {
+        byte[] prefix = prefixes.get(resultCode);
+        if (prefix == null) {
+            prefix = renderPrefix(resultCode);
+        }
+
+        final StringBuilder suffix = new StringBuilder(128);
+        suffix.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()))
+            .append("\",\"path\":");
+        appendJsonString(suffix, request.getRequestURI());
+        suffix.append(",\"transactionId\":");
+        appendJsonString(suffix, TransactionIds.current());
+        suffix.append('}');
+        final byte[] suffixBytes = suffix.toString().getBytes(StandardCharsets.UTF_8);
+
+        response.setStatus(resultCode.getStatus());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(prefix.length + suffixBytes.length);
+
+        final ServletOutputStream output = response.getOutputStream();
+        output.write(prefix);
+        output.write(suffixBytes);
+        output.flush();
+    }
+
+    /**
+     * 고정 부분: {"code":..,"title":..,"message":..,"status":..,"timestamp":"
+     */
+    private byte[] renderPrefix(final ResultCode resultCode) {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("code", resultCode.getCode());
+        fields.put("title", resultCode.getTitle());
+        fields.put("message", resultCode.getMessage());
+        fields.put("status", resultCode.getStatus());
+
+        try {
+            final String json = objectMapper.writeValueAsString(fields);
+            return (json.substring(0, json.length() - 1) + ",\"timestamp\":\"").getBytes(StandardCharsets.UTF_8);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답을 만들 수 없습니다: " + resultCode.getCode(), e);
+        }
+    }
+
+    /**
+     * JSON 문자열 (null이면 null)
+     */
+    private static void appendJsonString(final StringBuilder builder, final String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -0,0 +1,22 @@
+package com.custom.recommend_user_service.exception;
+
+import com.custom.recommend_user_service.enums.ResultCode;
+
+/**
+ * 예상된 실패용 ApiException (스택 트레이스 없음)
+ *
+ * <p>비밀번호 불일치, 만료/폐기된 토큰, 잠긴 계정처럼 정상 흐름에서 자주 발생하는 실패에 사용한다.
+ * 필터 체인 깊은 곳에서 던져져도 스택을 수집하지 않으므로 생성 비용이 객체 할당 수준이다.
+ * ApiException 하위 타입이라 {@link GlobalExceptionHandler}와 필터의 처리는 그대로이다.
+ * 원인 분석이 필요한 예외(DB 오류 등)에는 사용하지 않는다.
+ */
+public class ExpectedApiException extends ApiException {
+
+    public ExpectedApiException(ResultCode resultCode) {
+        super(resultCode, null, false);
+    }
+
+    public ExpectedApiException(ResultCode resultCode, String customMessage) {
+        super(resultCode, customMessage, false);
+    }
+}
@@ -1,5 +1,6 @@
 package com.custom.recommend_user_service.exception;
 
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
+import com.custom.recommend_user_service.config.ConnectionLimitingDataSource.ConnectionLimitExceededException;
 import com.custom.recommend_user_service.enums.ErrorCode;
 import com.custom.recommend_user_service.enums.ResultCode;
 
@@ -155,12 +157,21 @@ public class GlobalExceptionHandler {
 
     /**
      * 처리되지 않은 모든 예외 처리
+     * - DB 커넥션 동시 사용 제한으로 거부된 경우(JPA/JDBC 예외로 감싸져 옴)는 503 SERVICE_BUSY
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(
         final Exception e,
         final HttpServletRequest request
     ) {
+        if (NestedExceptionUtils.getMostSpecificCause(e) instanceof ConnectionLimitExceededException) {
+            log.warn("Connection limit exceeded: path={}", request.getRequestURI());
+
+            return ResponseEntity
+                .status(ErrorCode.SERVICE_BUSY.getStatus())
+                .body(ErrorResponse.of(ErrorCode.SERVICE_BUSY, request.getRequestURI()));
+        }
+
         log.error("Unexpected exception occurred: path={}", request.getRequestURI(), e);
 
         final ErrorResponse response = ErrorResponse.of(
@@ -0,0 +1,29 @@
+package com.custom.recommend_user_service.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * JFR 설정
+ *
+ * <p>Repository 팩토리에 {@link RepositoryJfrListener}를 등록한다. (Repository 생성 전에 적용)
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryJfrListenerPostProcessor() {
+        final RepositoryJfrListener listener = new RepositoryJfrListener();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.custom.recommend_user_service.monitoring;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JFR 녹화 제어 (/actuator/jfr, ADMIN 전용)
+ *
+ * <ul>
+ *   <li>GET /actuator/jfr: 녹화 상태</li>
+ *   <li>POST /actuator/jfr: 녹화 시작 (이미 녹화 중이면 그대로)</li>
+ *   <li>DELETE /actuator/jfr: 녹화 중지</li>
+ *   <li>GET /actuator/jfr/dump: 현재까지의 녹화를 .jfr 파일로 내려받기 (녹화는 계속)</li>
+ * </ul>
+ * 녹화는 {@code monitoring.jfr.max-age}, {@code monitoring.jfr.max-size-mb} 범위만 보관한다. (오래된 청크부터 삭제)
+ * {@code monitoring.jfr.start-on-startup=true}면 기동 시 바로 시작한다. (상시 녹화)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final String RECORDING_NAME = "recommend-user-service";
+    private static final String DUMP_SELECTOR = "dump";
+
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final boolean startOnStartup;
+
+    private Recording recording;
+    private Path lastDump;
+
+    public JfrEndpoint(
+        @Value("${monitoring.jfr.settings:default}") final String settings,
+        @Value("${monitoring.jfr.max-age:PT30M}") final Duration maxAge,
+        @Value("${monitoring.jfr.max-size-mb:64}") final long maxSizeMb,
+        @Value("${monitoring.jfr.start-on-startup:false}") final boolean startOnStartup
+    ) {
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.startOnStartup = startOnStartup;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (startOnStartup) {
+            start();
+        }
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : RecordingState.CLOSED.name());
+        status.put("settings", settings);
+        status.put("maxAge", maxAge.toString());
+        status.put("maxSizeBytes", maxSizeBytes);
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("sizeBytes", recording.getSize());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            closeRecording();
+            try {
+                recording = new Recording(Configuration.getConfiguration(settings));
+            } catch (final IOException | ParseException e) {
+                throw new IllegalStateException("JFR 설정을 읽을 수 없습니다: " + settings, e);
+            }
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(maxAge);
+            recording.setMaxSize(maxSizeBytes);
+            recording.start();
+            log.info("[JfrEndpoint] 녹화 시작: settings={}, maxAge={}, maxSizeBytes={}", settings, maxAge, maxSizeBytes);
+        }
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        closeRecording();
+        log.info("[JfrEndpoint] 녹화 중지");
+        return status();
+    }
+
+    /**
+     * 녹화 덤프 (이전 덤프 파일은 삭제)
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource dump(@Selector final String action) throws IOException {
+        if (!DUMP_SELECTOR.equals(action) || recording == null || recording.getState() != RecordingState.RUNNING) {
+            return null;
+        }
+
+        deleteLastDump();
+        lastDump = Files.createTempFile("auth-", ".jfr");
+        recording.dump(lastDump);
+        log.info("[JfrEndpoint] 녹화 덤프: file={}, size={}", lastDump, Files.size(lastDump));
+        return new FileSystemResource(lastDump);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws IOException {
+        closeRecording();
+        deleteLastDump();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() throws IOException {
+        if (lastDump != null) {
+            Files.deleteIfExists(lastDump);
+            lastDump = null;
+        }
+    }
+}
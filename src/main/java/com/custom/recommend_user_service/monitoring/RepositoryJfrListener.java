@@ -0,0 +1,31 @@
+package com.custom.recommend_user_service.monitoring;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import com.custom.recommend_user_service.monitoring.jfr.RepositoryCallEvent;
+
+/**
+ * Repository 호출마다 JFR {@link RepositoryCallEvent} 기록
+ *
+ * <p>JdbcTemplate 직접 호출(RefreshTokenStore 등)은 대상이 아니다.
+ */
+public class RepositoryJfrListener implements RepositoryMethodInvocationListener {
+
+    @Override
+    public void afterInvocation(final RepositoryMethodInvocation invocation) {
+        final RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.repository = invocation.getRepositoryInterface().getSimpleName();
+        event.method = invocation.getMethod().getName();
+        event.outcome = invocation.getResult() != null
+            ? invocation.getResult().getState().name().toLowerCase(Locale.ROOT)
+            : "unknown";
+        event.elapsed = invocation.getDuration(TimeUnit.NANOSECONDS);
+        event.commit();
+    }
+}
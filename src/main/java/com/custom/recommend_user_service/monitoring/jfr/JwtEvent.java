@@ -0,0 +1,28 @@
+package com.custom.recommend_user_service.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 서명/검증 이벤트
+ */
+@Name("recommend.auth.Jwt")
+@Label("JWT Sign/Verify")
+@Category({"Recommend User Service", "Auth"})
+@Description("Access Token 서명/검증 시간")
+@StackTrace(false)
+public class JwtEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("User ID Hash")
+    public String userIdHash;
+}
@@ -0,0 +1,27 @@
+package com.custom.recommend_user_service.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * bcrypt 해시 이벤트 (해시 전용 스레드에서 기록)
+ */
+@Name("recommend.auth.PasswordHash")
+@Label("Password Hash")
+@Category({"Recommend User Service", "Auth"})
+@Description("bcrypt matches/encode 시간과 큐 대기 시간")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+}
@@ -0,0 +1,35 @@
+package com.custom.recommend_user_service.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Spring Data Repository 호출 이벤트
+ *
+ * <p>호출이 끝난 뒤 리스너에서 기록하므로 소요 시간은 elapsed 필드에 담는다.
+ */
+@Name("recommend.data.RepositoryCall")
+@Label("Repository Call")
+@Category({"Recommend User Service", "Data"})
+@Description("Repository 메서드 호출 시간")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    public long elapsed;
+}
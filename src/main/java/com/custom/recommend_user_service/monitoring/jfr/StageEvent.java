@@ -0,0 +1,31 @@
+package com.custom.recommend_user_service.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 로그인/회원가입 단계 이벤트 ({@code StageTimer} 단계마다 1건)
+ */
+@Name("recommend.auth.Stage")
+@Label("Auth Stage")
+@Category({"Recommend User Service", "Auth"})
+@Description("로그인/회원가입 단계별 처리 시간")
+@StackTrace(false)
+public class StageEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("User ID Hash")
+    public String userIdHash;
+}
@@ -0,0 +1,39 @@
+package com.custom.recommend_user_service.monitoring.jfr;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * JFR 이벤트용 사용자 ID 해시
+ *
+ * <p>프로세스마다 임의 salt를 쓰므로 같은 녹화 안에서는 같은 사용자끼리 묶을 수 있지만,
+ * .jfr 파일만으로 사용자 ID를 되돌릴 수는 없다. 이벤트를 기록할 때(shouldCommit)만 계산한다.
+ */
+public final class UserIdHashes {
+
+    private static final byte[] SALT = new byte[16];
+
+    static {
+        new SecureRandom().nextBytes(SALT);
+    }
+
+    private UserIdHashes() {
+    }
+
+    public static String hash(final Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(SALT);
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(userId).array());
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.custom.recommend_user_service.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.custom.recommend_user_service.entity.User;
+import com.custom.recommend_user_service.repository.projection.UserCredential;
 
 /**
  * 로그인 Repository
@@ -18,4 +22,18 @@ public interface LoginRepository extends JpaRepository<User, Long> {
      */
     User findUserByEmail(String email);
 
+    /**
+     * 이메일에 해당되는 로그인 검증 정보 조회 (엔티티 로딩 없음)
+     * @param email 이메일
+     * @return
+     */
+    @Query("""
+        select new com.custom.recommend_user_service.repository.projection.UserCredential(
+            u.id, u.email, u.password, u.name, u.profileImageUrl,
+            u.role, u.status, u.provider, u.accountLockedUntil, u.tokenVersion)
+          from User u
+         where u.email = :email
+        """)
+    Optional<UserCredential> findCredentialByEmail(String email);
+
 }
@@ -1,8 +1,15 @@
 package com.custom.recommend_user_service.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.custom.recommend_user_service.entity.User;
 import com.custom.recommend_user_service.enums.Provider;
@@ -26,4 +33,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * OAuth 사용자 존재 여부 확인
      */
     boolean existsByProviderAndProviderId(Provider provider, String providerId);
+
+    /**
+     * 이미 가입된 이메일 조회 (대량 등록 중복 체크용)
+     */
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * 비밀번호 해시 교체 (재해시용)
+     * - 그 사이 비밀번호가 바뀌었으면 갱신하지 않는다. (oldPassword 비교)
+     * - 사용자의 비밀번호 변경이 아니므로 passwordChangedAt은 유지
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordHash(Long id, String oldPassword, String newPassword);
+
+    /**
+     * 계정 잠금 (로그인 실패 누적 시에만 호출)
+     * - 로그인 조회 트랜잭션(readOnly)과 분리된 쓰기 트랜잭션으로 실행
+     * - tokenVersionUpdatedAt 을 갱신해 다른 노드의 로그인 캐시도 제거되게 한다. (토큰 버전은 유지)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+        update User u
+           set u.accountLockedUntil = :lockedUntil,
+               u.loginFailCount = :loginFailCount,
+               u.tokenVersionUpdatedAt = :lockedAt
+         where u.id = :id
+        """)
+    int lockAccount(Long id, LocalDateTime lockedUntil, Integer loginFailCount, LocalDateTime lockedAt);
 }
\ No newline at end of file
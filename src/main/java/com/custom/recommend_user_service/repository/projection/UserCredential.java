@@ -0,0 +1,48 @@
+package com.custom.recommend_user_service.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.custom.recommend_user_service.enums.Provider;
+import com.custom.recommend_user_service.enums.Role;
+import com.custom.recommend_user_service.enums.UserStatus;
+
+/**
+ * 로그인 검증용 사용자 정보 (User 엔티티 일부 컬럼만 조회)
+ *
+ * @param id 사용자 ID
+ * @param email 이메일
+ * @param password 비밀번호 해시 (OAuth 사용자는 null)
+ * @param name 이름
+ * @param profileImageUrl 프로필 이미지
+ * @param role 권한
+ * @param status 계정 상태
+ * @param provider OAuth 제공자 (일반 회원가입은 null)
+ * @param accountLockedUntil 잠금 해제 시각
+ * @param tokenVersion 토큰 버전 (발급 토큰의 ver 클레임)
+ */
+public record UserCredential(
+    Long id,
+    String email,
+    String password,
+    String name,
+    String profileImageUrl,
+    Role role,
+    UserStatus status,
+    Provider provider,
+    LocalDateTime accountLockedUntil,
+    Integer tokenVersion
+) {
+    /**
+     * OAuth 사용자인지 확인
+     */
+    public boolean isOAuthUser() {
+        return provider != null;
+    }
+
+    /**
+     * 계정 잠금 여부 확인 (잠금 시간이 지났으면 해제된 것으로 본다)
+     */
+    public boolean isAccountLocked() {
+        return accountLockedUntil != null && LocalDateTime.now().isBefore(accountLockedUntil);
+    }
+}
@@ -0,0 +1,101 @@
+package com.custom.recommend_user_service.security.filter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 요청 본문을 미리 읽어두고 다시 읽을 수 있게 하는 래퍼
+ *
+ * <p>필터에서 본문(email)을 확인한 뒤에도 컨트롤러가 같은 본문을 읽을 수 있다.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyHttpServletRequest(final HttpServletRequest request, final byte[] body) {
+        super(request);
+        this.body = body;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        final ByteArrayInputStream input = new ByteArrayInputStream(body);
+
+        return new ServletInputStream() {
+            private ReadListener listener;
+
+            @Override
+            public int read() {
+                final int b = input.read();
+                notifyIfFinished();
+                return b;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                final int read = input.read(b, off, len);
+                notifyIfFinished();
+                return read;
+            }
+
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * 본문이 이미 메모리에 있으므로 바로 읽기 가능 알림 (다 읽으면 onAllDataRead)
+             */
+            @Override
+            public void setReadListener(final ReadListener readListener) {
+                this.listener = readListener;
+                try {
+                    if (isFinished()) {
+                        notifyIfFinished();
+                    } else {
+                        readListener.onDataAvailable();
+                    }
+                } catch (final IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            private void notifyIfFinished() {
+                if (listener != null && isFinished()) {
+                    final ReadListener finished = listener;
+                    listener = null;
+                    try {
+                        finished.onAllDataRead();
+                    } catch (final IOException e) {
+                        finished.onError(e);
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        final String encoding = getCharacterEncoding();
+        final Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
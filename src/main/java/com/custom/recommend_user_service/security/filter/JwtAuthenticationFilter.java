@@ -1,34 +1,41 @@
 package com.custom.recommend_user_service.security.filter;
 
 import java.io.IOException;
-import java.util.Map;
 
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.custom.recommend_user_service.enums.ErrorCode;
 import com.custom.recommend_user_service.exception.ApiException;
-import com.custom.recommend_user_service.security.jwt.JwtTokenProvider;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.custom.recommend_user_service.exception.ErrorResponseWriter;
+import com.custom.recommend_user_service.exception.ExpectedApiException;
+import com.custom.recommend_user_service.security.jwt.TokenRevocationList;
+import com.custom.recommend_user_service.security.jwt.TokenVersionRegistry;
+import com.custom.recommend_user_service.security.jwt.VerifiedToken;
+import com.custom.recommend_user_service.security.jwt.VerifiedTokenCache;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@Configuration
+@Component
+@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private JwtTokenProvider jwtTokenProvider;
-    private ObjectMapper objectMapper;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     protected void doFilterInternal(
@@ -41,10 +48,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Request Header에서 JWT 토큰 추출
             final String token = resolveToken(request);
 
-            // 2. 토큰 유효성 검증
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                // 3. 토큰에서 Authentication 추출
-                final Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            if (StringUtils.hasText(token)) {
+                // 2. 토큰 검증 + 파싱 (캐시 적중 시 생략)
+                final VerifiedToken verifiedToken = verifiedTokenCache.verify(token);
+                if (!verifiedToken.isAccessToken()) {
+                    throw new ExpectedApiException(ErrorCode.INVALID_TOKEN);
+                }
+                // 폐기(로그아웃) 여부, 비밀번호/상태 변경 이전 토큰 여부: 메모리 조회
+                if (tokenRevocationList.isRevoked(verifiedToken.tokenId())
+                    || tokenVersionRegistry.isStale(verifiedToken.userId(), verifiedToken.tokenVersion())) {
+                    throw new ExpectedApiException(ErrorCode.REVOKED_TOKEN);
+                }
+
+                // 3. 검증된 토큰에서 Authentication 생성
+                final Authentication authentication = verifiedToken.toAuthentication();
                 
                 // 4. SecurityContext에 Authentication 저장
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -60,7 +77,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 e.getResultCode().getCode(),
                 e.getMessage()
             );
-            setErrorResponse(response, e);
+            errorResponseWriter.write(request, response, e.getResultCode());
         }
     }
 
@@ -76,25 +93,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         return null;
     }
-
-    /**
-     * 인증 실패 응답 설정
-     */
-    private void setErrorResponse(
-        final HttpServletResponse response,
-        final ApiException e
-    ) throws IOException {
-        response.setStatus(e.getResultCode().getStatus());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        final Map<String, Object> errorResponse = Map.of(
-            "code", e.getResultCode().getCode(),
-            "title", e.getResultCode().getTitle(),
-            "message", e.getResultCode().getMessage(),
-            "status", e.getResultCode().getStatus()
-        );
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-    }
 }
\ No newline at end of file
@@ -0,0 +1,248 @@
+package com.custom.recommend_user_service.security.filter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.custom.recommend_user_service.config.RateLimitProperties;
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.exception.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 API 요청 제한 (IP / 이메일별 토큰 버킷)
+ *
+ * <p>{@code security.rate-limit.routes}에 등록된 경로만 검사한다. (경로 조회 1회, 그 외 요청은 통과)
+ * <ul>
+ *   <li>버킷: GCRA 방식. 키마다 AtomicLong 하나(다음 허용 시각)를 CAS로 갱신한다. (잠금 없음)</li>
+ *   <li>버킷 보관: 최대 {@code maximum-keys}개, {@code idle-timeout} 동안 요청이 없으면 제거</li>
+ *   <li>초과 시 429 + Retry-After(초)</li>
+ *   <li>이메일 기준 경로는 본문을 {@code max-body-size}까지만 읽는다. (Content-Length 또는 실제 길이 초과 시 413)</li>
+ *   <li>메트릭: security.rate_limit.rejected{route, key=ip|email|body_size}</li>
+ * </ul>
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP가 전달되어야 한다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String KEY_IP = "ip";
+    private static final String KEY_EMAIL = "email";
+    private static final String KEY_BODY_SIZE = "body_size";
+
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final Map<String, RouteLimiter> routes = new HashMap<>();
+    private final Cache<String, AtomicLong> buckets;
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(
+        final RateLimitProperties properties,
+        final ObjectMapper objectMapper,
+        final ErrorResponseWriter errorResponseWriter,
+        final MeterRegistry meterRegistry
+    ) {
+        this.enabled = properties.enabled();
+        this.maxBodyBytes = Math.toIntExact(properties.maxBodySize().toBytes());
+        this.objectMapper = objectMapper;
+        this.errorResponseWriter = errorResponseWriter;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.maximumKeys())
+            .expireAfterAccess(properties.idleTimeout())
+            .build();
+
+        for (final RateLimitProperties.Route route : properties.routes()) {
+            routes.put(route.path(), new RouteLimiter(route));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !enabled || !routes.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        final RouteLimiter route = routes.get(request.getRequestURI());
+
+        // 1. IP 기준
+        if (route.perIp != null) {
+            final long waitNanos = route.perIp.acquire(route.path + '|' + KEY_IP + '|' + request.getRemoteAddr());
+            if (waitNanos > 0) {
+                reject(request, response, route, KEY_IP, waitNanos);
+                return;
+            }
+        }
+
+        // 2. 이메일 기준 (본문을 읽으므로 다시 읽을 수 있게 감싼다)
+        HttpServletRequest chainRequest = request;
+        if (route.perEmail != null) {
+            final byte[] body = readBody(request);
+            if (body == null) {
+                rejectBodySize(request, response, route);
+                return;
+            }
+            final CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request, body);
+            chainRequest = cached;
+
+            final String email = extractEmail(cached.getBody());
+            if (email != null) {
+                final long waitNanos = route.perEmail.acquire(route.path + '|' + KEY_EMAIL + '|' + email);
+                if (waitNanos > 0) {
+                    reject(request, response, route, KEY_EMAIL, waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(chainRequest, response);
+    }
+
+    /**
+     * 요청 본문 (최대 maxBodyBytes, 넘으면 null)
+     * - Content-Length가 크면 읽지 않고, 없거나 틀린 경우(chunked)도 한도 + 1 바이트까지만 읽는다.
+     */
+    private byte[] readBody(final HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        final byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    /**
+     * 요청 본문의 email (JSON이 아니거나 없으면 null → 이메일 제한 생략, 검증은 컨트롤러에서)
+     */
+    private String extractEmail(final byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            final JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final RouteLimiter route,
+        final String keyType,
+        final long waitNanos
+    ) throws IOException {
+        final long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        final Counter counter = KEY_IP.equals(keyType) ? route.rejectedByIp : route.rejectedByEmail;
+        counter.increment();
+
+        log.warn("Rate limit exceeded: path={}, key={}, retryAfter={}s", route.path, keyType, retryAfterSeconds);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        errorResponseWriter.write(request, response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    private void rejectBodySize(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final RouteLimiter route
+    ) throws IOException {
+        route.rejectedByBodySize.increment();
+        log.warn("Request body too large: path={}, contentLength={}", route.path, request.getContentLengthLong());
+
+        errorResponseWriter.write(request, response, ErrorCode.PAYLOAD_TOO_LARGE);
+    }
+
+    /**
+     * 경로별 제한 (IP / 이메일)
+     */
+    private final class RouteLimiter {
+        private final String path;
+        private final Bucket perIp;
+        private final Bucket perEmail;
+        private final Counter rejectedByIp;
+        private final Counter rejectedByEmail;
+        private final Counter rejectedByBodySize;
+
+        private RouteLimiter(final RateLimitProperties.Route route) {
+            this.path = route.path();
+            this.perIp = route.perIp() != null ? new Bucket(route.perIp()) : null;
+            this.perEmail = route.perEmail() != null ? new Bucket(route.perEmail()) : null;
+            this.rejectedByIp = rejectedCounter(KEY_IP);
+            this.rejectedByEmail = rejectedCounter(KEY_EMAIL);
+            this.rejectedByBodySize = rejectedCounter(KEY_BODY_SIZE);
+        }
+
+        private Counter rejectedCounter(final String keyType) {
+            return Counter.builder("security.rate_limit.rejected")
+                .description("요청 제한으로 거부된 요청 수")
+                .tag("route", path)
+                .tag("key", keyType)
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * GCRA 토큰 버킷
+     *
+     * <p>키별 상태는 "이론상 다음 도착 시각(TAT)" 하나이다.
+     * 요청마다 TAT를 interval만큼 밀고, TAT - now 가 burst × interval 을 넘으면 거부한다.
+     */
+    private final class Bucket {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+
+        private Bucket(final RateLimitProperties.Limit limit) {
+            this.intervalNanos = limit.period().toNanos() / Math.max(1, limit.requests());
+            this.toleranceNanos = intervalNanos * Math.max(1, limit.burst());
+        }
+
+        /**
+         * @return 0이면 허용, 그 외에는 다시 시도할 수 있을 때까지 남은 시간 (ns)
+         */
+        private long acquire(final String key) {
+            final AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+            final long now = System.nanoTime();
+
+            while (true) {
+                final long current = tat.get();
+                final long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                final long next = base + intervalNanos;
+                final long wait = next - toleranceNanos - now;
+
+                if (wait > 0) {
+                    return wait;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -1,52 +1,38 @@
 package com.custom.recommend_user_service.security.hadler;
 
-import java.util.Map;
+import java.io.IOException;
 
-import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import com.custom.recommend_user_service.enums.ErrorCode;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.IOException;
+import com.custom.recommend_user_service.exception.ErrorResponseWriter;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
-    private ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void handle(
         final HttpServletRequest request,
         final HttpServletResponse response,
         final AccessDeniedException accessDeniedException
-    ) throws IOException, JsonProcessingException, IOException {
+    ) throws IOException {
         
         log.warn("Forbidden request: path={}, message={}",
             request.getRequestURI(),
             accessDeniedException.getMessage()
         );
 
-        final ErrorCode errorCode = ErrorCode.FORBIDDEN;
-
-        response.setStatus(errorCode.getStatus());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        final Map<String, Object> errorResponse = Map.of(
-            "code", errorCode.getCode(),
-            "title", errorCode.getTitle(),
-            "message", errorCode.getMessage(),
-            "status", errorCode.getStatus(),
-            "path", request.getRequestURI()
-        );
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        errorResponseWriter.write(request, response, ErrorCode.FORBIDDEN);
     }
 }
\ No newline at end of file
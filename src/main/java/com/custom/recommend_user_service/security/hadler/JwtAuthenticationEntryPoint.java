@@ -1,25 +1,25 @@
 package com.custom.recommend_user_service.security.hadler;
 
 import java.io.IOException;
-import java.util.Map;
 
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import com.custom.recommend_user_service.enums.ErrorCode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.custom.recommend_user_service.exception.ErrorResponseWriter;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void commence(
@@ -33,20 +33,6 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
             authException.getMessage()
         );
 
-        final ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
-
-        response.setStatus(errorCode.getStatus());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        final Map<String, Object> errorResponse = Map.of(
-            "code", errorCode.getCode(),
-            "title", errorCode.getTitle(),
-            "message", errorCode.getMessage(),
-            "status", errorCode.getStatus(),
-            "path", request.getRequestURI()
-        );
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        errorResponseWriter.write(request, response, ErrorCode.UNAUTHORIZED);
     }
 }
\ No newline at end of file
@@ -1,5 +1,81 @@
 package com.custom.recommend_user_service.security.hadler;
 
-public class OAuth2LoginFailureHandler {
-    
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.exception.ErrorResponseWriter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜 로그인 실패 처리
+ *
+ * <p>OAuth2Error 코드를 ErrorCode로 변환한다.
+ * <ul>
+ *   <li>CustomOAuth2UserService가 던진 ErrorCode 코드(E-*)는 그대로</li>
+ *   <li>사용자 정보 응답 오류(invalid_user_info_response) → OAUTH_USER_INFO_ERROR</li>
+ *   <li>그 외 제공자/인가 요청 오류(access_denied, authorization_request_not_found 등) → OAUTH_AUTHENTICATION_FAILED</li>
+ * </ul>
+ * {@code security.oauth2.failure-redirect-uri} 설정 시 #error=코드 로 리다이렉트, 아니면 미리 직렬화된 에러 응답을 쓴다.
+ */
+@Slf4j
+@Component
+public class OAuth2LoginFailureHandler implements AuthenticationFailureHandler {
+
+    private static final String INVALID_USER_INFO_RESPONSE = "invalid_user_info_response";
+
+    private final ErrorResponseWriter errorResponseWriter;
+    private final String redirectUri;
+    private final Map<String, ErrorCode> errorCodes = new HashMap<>();
+
+    public OAuth2LoginFailureHandler(
+        final ErrorResponseWriter errorResponseWriter,
+        @Value("${security.oauth2.failure-redirect-uri:}") final String redirectUri
+    ) {
+        this.errorResponseWriter = errorResponseWriter;
+        this.redirectUri = redirectUri;
+        for (final ErrorCode errorCode : ErrorCode.values()) {
+            errorCodes.put(errorCode.getCode(), errorCode);
+        }
+        errorCodes.put(INVALID_USER_INFO_RESPONSE, ErrorCode.OAUTH_USER_INFO_ERROR);
+        errorCodes.put(OAuth2ErrorCodes.INVALID_TOKEN, ErrorCode.OAUTH_USER_INFO_ERROR);
+    }
+
+    @Override
+    public void onAuthenticationFailure(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final AuthenticationException exception
+    ) throws IOException {
+        final ErrorCode errorCode = resolve(exception);
+
+        log.warn("[OAuth2] 로그인 실패: code={}, message={}", errorCode.getCode(), exception.getMessage());
+
+        if (StringUtils.hasText(redirectUri)) {
+            response.sendRedirect(redirectUri + "#error=" + URLEncoder.encode(errorCode.getCode(), StandardCharsets.UTF_8));
+            return;
+        }
+        errorResponseWriter.write(request, response, errorCode);
+    }
+
+    private ErrorCode resolve(final AuthenticationException exception) {
+        if (exception instanceof OAuth2AuthenticationException oauth2Exception) {
+            return errorCodes.getOrDefault(oauth2Exception.getError().getErrorCode(), ErrorCode.OAUTH_AUTHENTICATION_FAILED);
+        }
+        return ErrorCode.OAUTH_AUTHENTICATION_FAILED;
+    }
 }
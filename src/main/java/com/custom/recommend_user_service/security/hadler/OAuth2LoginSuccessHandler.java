@@ -1,5 +1,91 @@
 package com.custom.recommend_user_service.security.hadler;
 
-public class OAuth2LoginSuccessHandler {
-    
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.custom.recommend_user_service.common.ApiResult;
+import com.custom.recommend_user_service.dto.response.TokenResponse;
+import com.custom.recommend_user_service.security.oauth2.OAuth2UserPrincipal;
+import com.custom.recommend_user_service.service.RefreshTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜 로그인 성공 처리
+ *
+ * <p>CustomOAuth2UserService upsert 결과({@link OAuth2UserPrincipal})로 바로 토큰을 발급한다. (사용자 재조회 없음)
+ * <ul>
+ *   <li>{@code security.oauth2.success-redirect-uri} 설정 시: 302 리다이렉트, 토큰은 URL fragment로 전달
+ *       (fragment는 서버/프록시 로그와 Referer에 남지 않는다)</li>
+ *   <li>미설정 시: 로그인 API와 같은 ApiResult JSON 응답</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final RefreshTokenService refreshTokenService;
+    private final ObjectMapper objectMapper;
+    private final String redirectUri;
+
+    public OAuth2LoginSuccessHandler(
+        final RefreshTokenService refreshTokenService,
+        final ObjectMapper objectMapper,
+        @Value("${security.oauth2.success-redirect-uri:}") final String redirectUri
+    ) {
+        this.refreshTokenService = refreshTokenService;
+        this.objectMapper = objectMapper;
+        this.redirectUri = redirectUri;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Authentication authentication
+    ) throws IOException {
+        final OAuth2UserPrincipal principal = (OAuth2UserPrincipal) authentication.getPrincipal();
+
+        // accessToken + refreshToken (새 family)
+        final TokenResponse tokens = refreshTokenService.issue(
+            principal.userId(),
+            principal.role(),
+            principal.tokenVersion()
+        );
+
+        log.info("[OAuth2] 토큰 발급: userId={}", principal.userId());
+
+        if (StringUtils.hasText(redirectUri)) {
+            response.sendRedirect(redirectUri + "#" + fragment(tokens));
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResult.success(tokens));
+    }
+
+    private static String fragment(final TokenResponse tokens) {
+        return "access_token=" + encode(tokens.accessToken())
+            + "&refresh_token=" + encode(tokens.refreshToken())
+            + "&token_type=" + encode(tokens.tokenType())
+            + "&expires_in=" + tokens.accessTokenExpiresIn()
+            + "&refresh_expires_in=" + tokens.refreshTokenExpiresIn();
+    }
+
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
 }
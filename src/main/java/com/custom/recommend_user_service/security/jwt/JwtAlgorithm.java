@@ -0,0 +1,42 @@
+package com.custom.recommend_user_service.security.jwt;
+
+/**
+ * JWT 서명 알고리즘
+ *
+ * <p>HS* 는 대칭키(공유 secret), ES256/EdDSA 는 비대칭키(공개키는 JWKS로 배포)
+ */
+public enum JwtAlgorithm {
+    HS256("HS256", "HmacSHA256"),
+    HS512("HS512", "HmacSHA512"),
+    ES256("ES256", "EC"),
+    EdDSA("EdDSA", "Ed25519");
+
+    private final String id;
+    private final String keyAlgorithm;
+
+    JwtAlgorithm(String id, String keyAlgorithm) {
+        this.id = id;
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    /**
+     * JWS 헤더의 alg 값
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * JCA 키 알고리즘 이름
+     */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * 비대칭키 알고리즘 여부 (JWKS 공개 대상)
+     */
+    public boolean isAsymmetric() {
+        return this == ES256 || this == EdDSA;
+    }
+}
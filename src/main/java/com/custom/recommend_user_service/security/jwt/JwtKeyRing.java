@@ -0,0 +1,261 @@
+package com.custom.recommend_user_service.security.jwt;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.custom.recommend_user_service.config.JwtKeyProperties;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명/검증 키 관리
+ *
+ * <ul>
+ *   <li>서명: {@code jwt.signing.active-kid} 키로 서명하고 헤더에 kid를 넣는다.</li>
+ *   <li>검증: kid → 키 맵에서 O(1) 조회. 교체 전 키도 만료 전까지 남겨두면 계속 검증된다.</li>
+ *   <li>kid 없는 토큰: 기존 {@code jwt.secret} (HS512) 으로 검증 (전환 기간 호환)</li>
+ *   <li>공개키는 {@code /.well-known/jwks.json} 으로 배포되어 다른 서비스가 로컬 검증한다.</li>
+ * </ul>
+ *
+ * <p>키 교체 순서: 새 키를 검증 키로 추가 → JWKS 캐시 시간(jwks-max-age) 경과 → active-kid 변경
+ * → 이전 키는 Access Token 만료 후 제거
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private final String activeKid;
+    private final JwtAlgorithm activeAlgorithm;
+    private final Key activeSigningKey;
+
+    private final Map<String, VerificationKey> verificationKeys;
+    private final SecretKey legacyKey;
+    private final Map<String, Object> jwkSet;
+
+    public JwtKeyRing(
+        final JwtKeyProperties properties,
+        @Value("${jwt.secret:}") final String legacySecret
+    ) {
+        this.legacyKey = StringUtils.hasText(legacySecret)
+            ? Keys.hmacShaKeyFor(legacySecret.getBytes(StandardCharsets.UTF_8))
+            : null;
+
+        final Map<String, VerificationKey> keys = new HashMap<>();
+        final List<Map<String, Object>> jwks = new ArrayList<>();
+        Key signingKey = null;
+        JwtAlgorithm signingAlgorithm = null;
+
+        for (final JwtKeyProperties.Key config : properties.keys()) {
+            if (!StringUtils.hasText(config.kid()) || config.algorithm() == null) {
+                throw new IllegalStateException("jwt.signing.keys 항목에는 kid와 algorithm이 필요합니다.");
+            }
+            if (keys.containsKey(config.kid())) {
+                throw new IllegalStateException("중복된 JWT kid: " + config.kid());
+            }
+
+            final JwtAlgorithm algorithm = config.algorithm();
+            if (algorithm.isAsymmetric()) {
+                final PublicKey publicKey = decodePublicKey(algorithm, config.publicKey());
+                keys.put(config.kid(), new VerificationKey(algorithm, publicKey));
+                jwks.add(toJwk(config.kid(), algorithm, publicKey));
+
+                if (config.kid().equals(properties.activeKid())) {
+                    signingKey = decodePrivateKey(algorithm, config.privateKey());
+                    signingAlgorithm = algorithm;
+                }
+            } else {
+                if (!StringUtils.hasText(config.secret())) {
+                    throw new IllegalStateException("대칭키에는 secret이 필요합니다: kid=" + config.kid());
+                }
+                final SecretKey secretKey = Keys.hmacShaKeyFor(config.secret().getBytes(StandardCharsets.UTF_8));
+                keys.put(config.kid(), new VerificationKey(algorithm, secretKey));
+
+                if (config.kid().equals(properties.activeKid())) {
+                    signingKey = secretKey;
+                    signingAlgorithm = algorithm;
+                }
+            }
+        }
+
+        if (StringUtils.hasText(properties.activeKid()) && signingKey == null) {
+            throw new IllegalStateException("active-kid에 해당하는 서명키가 없습니다: " + properties.activeKid());
+        }
+
+        if (signingKey == null) {
+            if (legacyKey == null) {
+                throw new IllegalStateException("jwt.signing.active-kid 또는 jwt.secret 설정이 필요합니다.");
+            }
+            // 서명키 미설정: 기존 방식 (kid 없는 HS512)
+            this.activeKid = null;
+            this.activeAlgorithm = JwtAlgorithm.HS512;
+            this.activeSigningKey = legacyKey;
+        } else {
+            this.activeKid = properties.activeKid();
+            this.activeAlgorithm = signingAlgorithm;
+            this.activeSigningKey = signingKey;
+        }
+
+        this.verificationKeys = Map.copyOf(keys);
+        this.jwkSet = Map.of("keys", List.copyOf(jwks));
+
+        log.info("[JwtKeyRing] 서명키: kid={}, alg={}, 검증키 수={}",
+            activeKid, activeAlgorithm.getId(), verificationKeys.size());
+    }
+
+    /**
+     * 현재 서명키로 서명 (kid 헤더 포함)
+     */
+    public JwtBuilder sign(final JwtBuilder builder) {
+        if (activeKid != null) {
+            builder.header().keyId(activeKid).and();
+        }
+
+        return switch (activeAlgorithm) {
+            case HS256 -> builder.signWith((SecretKey) activeSigningKey, Jwts.SIG.HS256);
+            case HS512 -> builder.signWith((SecretKey) activeSigningKey, Jwts.SIG.HS512);
+            case ES256 -> builder.signWith((PrivateKey) activeSigningKey, Jwts.SIG.ES256);
+            case EdDSA -> builder.signWith((PrivateKey) activeSigningKey, Jwts.SIG.EdDSA);
+        };
+    }
+
+    /**
+     * 파서용 키 조회기 (kid 기준)
+     */
+    public LocatorAdapter<Key> keyLocator() {
+        return new KidKeyLocator();
+    }
+
+    /**
+     * 공개키 목록 (JWKS, RFC 7517)
+     */
+    public Map<String, Object> jwkSet() {
+        return jwkSet;
+    }
+
+    /**
+     * 현재 서명 알고리즘
+     */
+    public JwtAlgorithm getActiveAlgorithm() {
+        return activeAlgorithm;
+    }
+
+    /**
+     * kid 헤더로 검증키를 찾는다. kid가 없으면 기존 jwt.secret 키를 사용한다.
+     */
+    private final class KidKeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(final JwsHeader header) {
+            final String kid = header.getKeyId();
+
+            if (kid == null) {
+                if (legacyKey == null || !JwtAlgorithm.HS512.getId().equals(header.getAlgorithm())) {
+                    throw new UnsupportedJwtException("JWT kid header is missing");
+                }
+                return legacyKey;
+            }
+
+            final VerificationKey key = verificationKeys.get(kid);
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown JWT kid: " + kid);
+            }
+            // 헤더 alg 위조 방지: 키에 설정된 알고리즘만 허용
+            if (!key.algorithm().getId().equals(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("JWT alg does not match kid: " + kid);
+            }
+            return key.key();
+        }
+    }
+
+    private record VerificationKey(JwtAlgorithm algorithm, Key key) {}
+
+    private static PublicKey decodePublicKey(final JwtAlgorithm algorithm, final String base64) {
+        try {
+            final byte[] encoded = Base64.getDecoder().decode(base64);
+            return KeyFactory.getInstance(algorithm.getKeyAlgorithm())
+                .generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (final GeneralSecurityException | IllegalArgumentException | NullPointerException e) {
+            throw new IllegalStateException("JWT 공개키를 읽을 수 없습니다: alg=" + algorithm.getId(), e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(final JwtAlgorithm algorithm, final String base64) {
+        try {
+            final byte[] encoded = Base64.getDecoder().decode(base64);
+            return KeyFactory.getInstance(algorithm.getKeyAlgorithm())
+                .generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (final GeneralSecurityException | IllegalArgumentException | NullPointerException e) {
+            throw new IllegalStateException("JWT 개인키를 읽을 수 없습니다: alg=" + algorithm.getId(), e);
+        }
+    }
+
+    /**
+     * 공개키 → JWK (EC P-256 / OKP Ed25519)
+     */
+    private static Map<String, Object> toJwk(final String kid, final JwtAlgorithm algorithm, final PublicKey publicKey) {
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        final Map<String, Object> jwk = new LinkedHashMap<>();
+
+        if (algorithm == JwtAlgorithm.ES256) {
+            final ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", encoder.encodeToString(toUnsigned(ecPublicKey.getW().getAffineX(), 32)));
+            jwk.put("y", encoder.encodeToString(toUnsigned(ecPublicKey.getW().getAffineY(), 32)));
+        } else {
+            // X.509 SubjectPublicKeyInfo 의 마지막 32바이트가 Ed25519 raw 공개키
+            final byte[] encoded = publicKey.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", encoder.encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+        }
+
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getId());
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    /**
+     * BigInteger → 고정 길이 unsigned big-endian
+     */
+    private static byte[] toUnsigned(final BigInteger value, final int length) {
+        final byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+
+        final byte[] result = new byte[length];
+        final int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, result, length - copy, copy);
+        return result;
+    }
+}
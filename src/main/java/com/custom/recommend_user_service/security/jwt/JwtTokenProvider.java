@@ -1,202 +1,201 @@
 package com.custom.recommend_user_service.security.jwt;
 
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Collection;
 import java.util.Date;
-import java.util.List;
-
-import javax.crypto.SecretKey;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import com.custom.recommend_user_service.exception.ApiException;
+import com.custom.recommend_user_service.exception.ExpectedApiException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import com.custom.recommend_user_service.dto.response.TokenResponse;
-import com.custom.recommend_user_service.entity.User;
 import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.monitoring.jfr.JwtEvent;
+import com.custom.recommend_user_service.monitoring.jfr.UserIdHashes;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.RequiredTypeException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * JWT 토큰 생성 및 검증
  *
+ * <p>파서는 생성 시점에 한 번만 만들어 재사용한다. (thread-safe)
+ * <p>서명/검증 키는 {@link JwtKeyRing}이 관리한다. (kid 기반 키 교체)
+ * <p>메트릭: jwt.sign.duration, jwt.verify.duration{outcome=valid|invalid|expired} (percentile histogram)
+ * <p>JFR: recommend.auth.Jwt (operation=sign|verify, outcome, 사용자 ID 해시)
+ *
  * @since 1.0
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
-    private final long accessTokenValidityInSeconds;
-    private final long refreshTokenValidityInSeconds;
+    private static final String OPERATION_SIGN = "sign";
+    private static final String OPERATION_VERIFY = "verify";
+    private static final String OUTCOME_VALID = "valid";
+    private static final String OUTCOME_INVALID = "invalid";
+    private static final String OUTCOME_EXPIRED = "expired";
 
-    // 30분 * 60초 * 1000ms = 1,800,000ms
-    private long ACCESS_TOKEN_EXPIRE_TIME = 1000L * 60 * 30;
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
+    private final long accessTokenValidityInSeconds;
 
-    // 2. Refresh Token: 3일
-    // 3일 * 24시간 * 60분 * 60초 * 1000ms = 259,200,000ms
-    private long REFRESH_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 24 * 3;
+    private final Timer signTimer;
+    private final Timer verifyValidTimer;
+    private final Timer verifyInvalidTimer;
+    private final Timer verifyExpiredTimer;
 
     public JwtTokenProvider(
-        @Value("${jwt.secret}") final String secret,
+        final JwtKeyRing keyRing,
         @Value("${jwt.access-token-validity-in-seconds}") final long accessTokenValidityInSeconds,
-        @Value("${jwt.refresh-token-validity-in-seconds}") final long refreshTokenValidityInSeconds
+        final MeterRegistry meterRegistry
     ) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser()
+            .keyLocator(keyRing.keyLocator())
+            .build();
         this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
-        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+
+        this.signTimer = histogram("jwt.sign.duration")
+            .description("Access Token 서명 시간")
+            .register(meterRegistry);
+        this.verifyValidTimer = verifyTimer(OUTCOME_VALID, meterRegistry);
+        this.verifyInvalidTimer = verifyTimer(OUTCOME_INVALID, meterRegistry);
+        this.verifyExpiredTimer = verifyTimer(OUTCOME_EXPIRED, meterRegistry);
     }
 
     /**
      * Access Token 생성
+     * - subject/role 클레임은 {@link #verify(String)}와 동일한 형식으로 발급한다.
+     * - jti: 토큰 폐기({@link TokenRevocationList}) 식별자
+     * - ver: 사용자 토큰 버전 ({@link TokenVersionRegistry})
+     * - Refresh Token은 {@code RefreshTokenService}가 발급한다. (JWT 아님)
      */
-    public String createAccessToken(final Long userId, final String email, final String role) {
+    public String createAccessToken(final Long userId, final String role, final int tokenVersion) {
+        final JwtEvent event = new JwtEvent();
+        event.begin();
+        final long startedAt = System.nanoTime();
         final Instant now = Instant.now();
         final Instant expiration = now.plus(accessTokenValidityInSeconds, ChronoUnit.SECONDS);
 
-        return Jwts.builder()
-            .subject(String.valueOf(userId))
-            .claim("email", email)
-            .claim("role", role)
-            .claim("type", "access")
-            .issuedAt(Date.from(now))
-            .expiration(Date.from(expiration))
-            .signWith(secretKey, Jwts.SIG.HS512)
+        final String token = keyRing.sign(Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(userId))
+                .claim("role", role)
+                .claim("type", VerifiedToken.TYPE_ACCESS)
+                .claim("ver", tokenVersion)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiration)))
             .compact();
+        signTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        commit(event, OPERATION_SIGN, OUTCOME_VALID, userId);
+        return token;
     }
 
     /**
-     * Refresh Token 생성
+     * 토큰 검증 + 파싱 (1회)
+     *
+     * <p>서명/만료 검증과 클레임 추출을 한 번에 수행한다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 토큰 정보
+     * @throws ApiException 유효하지 않거나 만료된 토큰
      */
-    public String createRefreshToken(final Long userId) {
-        final Instant now = Instant.now();
-        final Instant expiration = now.plus(refreshTokenValidityInSeconds, ChronoUnit.SECONDS);
-
-        return Jwts.builder()
-            .subject(String.valueOf(userId))
-            .claim("type", "refresh")
-            .issuedAt(Date.from(now))
-            .expiration(Date.from(expiration))
-            .signWith(secretKey, Jwts.SIG.HS512)
-            .compact();
+    public VerifiedToken verify(final String token) {
+        final JwtEvent event = new JwtEvent();
+        event.begin();
+        final long startedAt = System.nanoTime();
+        try {
+            final VerifiedToken verifiedToken = toVerifiedToken(parseClaims(token));
+            verifyValidTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            commit(event, OPERATION_VERIFY, OUTCOME_VALID, verifiedToken.userId());
+            return verifiedToken;
+        } catch (final ApiException e) {
+            final boolean expired = e.getResultCode() == ErrorCode.EXPIRED_TOKEN;
+            (expired ? verifyExpiredTimer : verifyInvalidTimer).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            commit(event, OPERATION_VERIFY, expired ? OUTCOME_EXPIRED : OUTCOME_INVALID, null);
+            throw e;
+        }
     }
 
-    /**
-     * Accesstoken + Refreshtoken
-     * - 알고리즘 : ES256
-     * @param user 유저
-     * @return
-     */
-    public TokenResponse createToken(User user){
-
-        // 현재시간
-        long now = System.currentTimeMillis();
-
-        // Access Token 생성 및 만료 설정
-        Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        String accessToken = Jwts.builder()
-                .subject(user.getEmail())
-                .claim("auth", user.getRole())
-                .claim("type", "access")
-                .issuedAt(new Date(now))
-                .signWith(secretKey)
-                .expiration(accessTokenExpiresIn)
-                .compact();
-
-        // Refresh Token 생성 및 만료 설정
-        Date refreshTokenExpiresIn = new Date(now + REFRESH_TOKEN_EXPIRE_TIME);
-        String refreshToken = Jwts.builder()
-                .issuedAt(new Date(now))
-                .expiration(refreshTokenExpiresIn)
-                .signWith(secretKey)
-                .compact();
-
-        return new TokenResponse(
-            "Bearer",
-            accessToken,
-            refreshToken,
-            accessTokenExpiresIn.getTime(),
-            refreshTokenExpiresIn.getTime()
-        );
+    private VerifiedToken toVerifiedToken(final Claims claims) {
+        try {
+            final Integer tokenVersion = claims.get("ver", Integer.class);
+            return new VerifiedToken(
+                claims.getId(),
+                Long.valueOf(claims.getSubject()),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                tokenVersion != null ? tokenVersion : 0,
+                claims.getExpiration().toInstant()
+            );
+        } catch (final NumberFormatException | NullPointerException | RequiredTypeException e) {
+            log.warn("JWT token has invalid claims: {}", e.getMessage());
+            throw new ExpectedApiException(ErrorCode.INVALID_TOKEN);
+        }
     }
 
     /**
      * 토큰에서 Authentication 추출
      */
     public Authentication getAuthentication(final String token) {
-        final Claims claims = parseClaims(token);
-        
-        final String userId = claims.getSubject();
-        final String role = claims.get("role", String.class);
-        
-        final Collection<? extends GrantedAuthority> authorities = 
-            List.of(new SimpleGrantedAuthority(role));
-        
-        return new UsernamePasswordAuthenticationToken(userId, token, authorities);
+        return verify(token).toAuthentication();
     }
 
     /**
      * 토큰에서 사용자 ID 추출
      */
     public Long getUserId(final String token) {
-        final Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
+        return verify(token).userId();
     }
 
     /**
-     * 토큰에서 이메일 추출
+     * 토큰 유효성 검증
      */
-    public String getEmail(final String token) {
-        final Claims claims = parseClaims(token);
-        return claims.get("email", String.class);
+    public boolean validateToken(final String token) {
+        parseClaims(token);
+        return true;
     }
 
     /**
-     * 토큰 유효성 검증
+     * 토큰 파싱 (서명/만료 검증 포함)
      */
-    public boolean validateToken(final String token) {
+    private Claims parseClaims(final String token) {
         try {
-            parseClaims(token);
-            return true;
+            return jwtParser
+                .parseSignedClaims(token)
+                .getPayload();
         } catch (final MalformedJwtException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
-            throw new ApiException(ErrorCode.INVALID_TOKEN);
+            throw new ExpectedApiException(ErrorCode.INVALID_TOKEN);
         } catch (final ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
-            throw new ApiException(ErrorCode.EXPIRED_TOKEN);
+            throw new ExpectedApiException(ErrorCode.EXPIRED_TOKEN);
         } catch (final UnsupportedJwtException e) {
             log.warn("Unsupported JWT token: {}", e.getMessage());
-            throw new ApiException(ErrorCode.INVALID_TOKEN);
+            throw new ExpectedApiException(ErrorCode.INVALID_TOKEN);
+        } catch (final JwtException e) {
+            log.warn("JWT signature or claims are invalid: {}", e.getMessage());
+            throw new ExpectedApiException(ErrorCode.INVALID_TOKEN);
         } catch (final IllegalArgumentException e) {
             log.warn("JWT token compact of handler are invalid: {}", e.getMessage());
-            throw new ApiException(ErrorCode.INVALID_TOKEN);
+            throw new ExpectedApiException(ErrorCode.INVALID_TOKEN);
         }
     }
 
-    /**
-     * 토큰 파싱
-     */
-    private Claims parseClaims(final String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-    }
-
     /**
      * Access Token 만료 시간 반환 (초)
      */
@@ -204,10 +203,27 @@ public class JwtTokenProvider {
         return accessTokenValidityInSeconds;
     }
 
-    /**
-     * Refresh Token 만료 시간 반환 (초)
-     */
-    public long getRefreshTokenValidityInSeconds() {
-        return refreshTokenValidityInSeconds;
+    private static void commit(final JwtEvent event, final String operation, final String outcome, final Long userId) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.outcome = outcome;
+            event.userIdHash = UserIdHashes.hash(userId);
+            event.commit();
+        }
+    }
+
+    private static Timer verifyTimer(final String outcome, final MeterRegistry meterRegistry) {
+        return histogram("jwt.verify.duration")
+            .description("토큰 서명/만료 검증 시간")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static Timer.Builder histogram(final String name) {
+        return Timer.builder(name)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(10_000))
+            .maximumExpectedValue(Duration.ofMillis(100));
     }
 }
@@ -0,0 +1,136 @@
+package com.custom.recommend_user_service.security.jwt;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access Token 폐기 목록 (deny-list)
+ *
+ * <p>jti → 만료 시각을 메모리 해시맵에 보관하고, 요청마다 {@link #isRevoked(String)}로 확인한다. (조회 1회)
+ * <ul>
+ *   <li>영속: revoked_tokens 테이블. 시작 시 만료 전 행을 모두 읽는다.</li>
+ *   <li>다른 노드의 폐기: revoked_at 기준 증분 조회 ({@code jwt.revocation.sync-interval-millis})</li>
+ *   <li>토큰 만료 시각이 지난 항목은 메모리/테이블에서 제거한다. (만료 토큰은 서명 검증에서 거부됨)</li>
+ *   <li>메트릭: jwt.revocation.size</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO revoked_tokens (jti, user_id, expires_at, revoked_at)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (jti) DO NOTHING
+        """;
+    private static final String SELECT_ACTIVE_SQL = "SELECT jti, expires_at FROM revoked_tokens WHERE expires_at > ?";
+    private static final String SELECT_SINCE_SQL =
+        "SELECT jti, expires_at FROM revoked_tokens WHERE revoked_at >= ? AND expires_at > ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM revoked_tokens WHERE expires_at <= ?";
+
+    // 노드 간 시계 차이/커밋 지연 보정 (중복 적재는 무해)
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    private volatile Instant lastSyncedAt = Instant.EPOCH;
+
+    public TokenRevocationList(
+        final JdbcTemplate jdbcTemplate,
+        final MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        Gauge.builder("jwt.revocation.size", revoked, Map::size)
+            .description("메모리에 보관 중인 폐기 토큰 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 전체 적재
+     */
+    @PostConstruct
+    public void load() {
+        final Instant now = Instant.now();
+        jdbcTemplate.query(SELECT_ACTIVE_SQL, this::addRow, Timestamp.from(now));
+        lastSyncedAt = now;
+
+        log.info("[TokenRevocationList] 폐기 토큰 적재: {}건", revoked.size());
+    }
+
+    /**
+     * 폐기 여부 (jti 없는 토큰은 폐기 대상이 아님)
+     */
+    public boolean isRevoked(final String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃 등)
+     */
+    public void revoke(final VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        jdbcTemplate.update(INSERT_SQL,
+            token.tokenId(),
+            token.userId(),
+            Timestamp.from(token.expiresAt()),
+            Timestamp.from(now));
+        revoked.put(token.tokenId(), token.expiresAt());
+
+        log.info("[TokenRevocationList] 토큰 폐기: userId={}, jti={}", token.userId(), token.tokenId());
+    }
+
+    /**
+     * 다른 노드에서 폐기된 토큰 반영 + 만료 항목 제거
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-millis:5000}")
+    public void sync() {
+        final Instant now = Instant.now();
+        try {
+            jdbcTemplate.query(SELECT_SINCE_SQL,
+                this::addRow,
+                Timestamp.from(lastSyncedAt.minus(SYNC_OVERLAP)),
+                Timestamp.from(now));
+            lastSyncedAt = now;
+        } catch (final DataAccessException e) {
+            log.warn("[TokenRevocationList] 동기화 실패: {}", e.getMessage());
+        }
+
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    /**
+     * 만료 행 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval-millis:3600000}")
+    public void deleteExpired() {
+        final int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            log.info("[TokenRevocationList] 만료된 폐기 토큰 삭제: {}건", deleted);
+        }
+    }
+
+    private void addRow(final ResultSet rs) throws SQLException {
+        revoked.put(rs.getString("jti"), rs.getTimestamp("expires_at").toInstant());
+    }
+}
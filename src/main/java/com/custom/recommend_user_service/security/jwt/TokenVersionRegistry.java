@@ -0,0 +1,106 @@
+package com.custom.recommend_user_service.security.jwt;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 최소 유효 토큰 버전
+ *
+ * <p>비밀번호 변경/상태 변경 시 users.token_version 이 증가하고, 그보다 낮은 ver 클레임의 토큰은 거부된다.
+ * 토큰 목록 없이 사용자 단위로 한 번에 무효화한다.
+ * <ul>
+ *   <li>메모리: userId → 버전 (token_version > 0 인 사용자만). 요청마다 DB 조회 없음</li>
+ *   <li>같은 노드의 변경: 커밋 직후 {@link #advance(Long, int)} (User 엔티티 리스너)</li>
+ *   <li>다른 노드의 변경: token_version_updated_at 기준 증분 조회 ({@code jwt.token-version.sync-interval-millis})</li>
+ *   <li>메트릭: jwt.token_version.size</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TokenVersionRegistry {
+
+    private static final String SELECT_ALL_SQL = "SELECT id, token_version FROM users WHERE token_version > 0";
+    private static final String SELECT_SINCE_SQL =
+        "SELECT id, token_version FROM users WHERE token_version_updated_at >= ?";
+
+    // 노드 간 시계 차이/커밋 지연 보정 (중복 반영은 무해)
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.now();
+
+    public TokenVersionRegistry(
+        final JdbcTemplate jdbcTemplate,
+        final MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        Gauge.builder("jwt.token_version.size", versions, Map::size)
+            .description("토큰 버전이 올라간 사용자 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 전체 적재
+     */
+    @PostConstruct
+    public void load() {
+        final LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.query(SELECT_ALL_SQL, this::addRow);
+        lastSyncedAt = now;
+
+        log.info("[TokenVersionRegistry] 토큰 버전 적재: {}명", versions.size());
+    }
+
+    /**
+     * 토큰 버전이 현재 버전보다 낮으면 true (무효화된 토큰)
+     */
+    public boolean isStale(final Long userId, final int tokenVersion) {
+        final Integer current = versions.get(userId);
+        return current != null && tokenVersion < current;
+    }
+
+    /**
+     * 사용자 토큰 버전 반영 (낮아지지 않음)
+     */
+    public void advance(final Long userId, final int tokenVersion) {
+        if (tokenVersion > 0) {
+            versions.merge(userId, tokenVersion, Math::max);
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 토큰 버전 반영
+     */
+    @Scheduled(fixedDelayString = "${jwt.token-version.sync-interval-millis:5000}")
+    public void sync() {
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.query(SELECT_SINCE_SQL, this::addRow, Timestamp.valueOf(lastSyncedAt.minus(SYNC_OVERLAP)));
+            lastSyncedAt = now;
+        } catch (final DataAccessException e) {
+            log.warn("[TokenVersionRegistry] 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void addRow(final ResultSet rs) throws SQLException {
+        advance(rs.getLong("id"), rs.getInt("token_version"));
+    }
+}
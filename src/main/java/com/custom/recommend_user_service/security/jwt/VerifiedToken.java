@@ -0,0 +1,56 @@
+package com.custom.recommend_user_service.security.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 서명 검증이 끝난 JWT 정보
+ *
+ * <p>{@link JwtTokenProvider#verify(String)}에서 한 번만 파싱하고,
+ * 이후에는 이 객체만 사용한다. (불변)
+ *
+ * @param tokenId 토큰 ID (jti), jti 도입 전 발급된 토큰은 null
+ * @param userId 사용자 ID (subject)
+ * @param role 권한 (예: ROLE_USER)
+ * @param type 토큰 종류 (access)
+ * @param tokenVersion 발급 시점의 사용자 토큰 버전 (ver 클레임, 없으면 0)
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedToken(
+    String tokenId,
+    Long userId,
+    String role,
+    String type,
+    int tokenVersion,
+    Instant expiresAt
+) {
+    public static final String TYPE_ACCESS = "access";
+
+    /**
+     * Access Token 여부
+     */
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    /**
+     * SecurityContext에 저장할 Authentication 생성
+     * - details: 이 토큰 (로그아웃 시 jti/만료 시각 사용)
+     */
+    public Authentication toAuthentication() {
+        final Collection<? extends GrantedAuthority> authorities = role != null
+            ? List.of(new SimpleGrantedAuthority(role))
+            : List.of();
+
+        final UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(String.valueOf(userId), null, authorities);
+        authentication.setDetails(this);
+        return authentication;
+    }
+}
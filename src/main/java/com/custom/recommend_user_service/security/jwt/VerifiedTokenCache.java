@@ -0,0 +1,109 @@
+package com.custom.recommend_user_service.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증된 JWT 캐시
+ *
+ * <p>같은 Access Token이 만료 전까지 반복해서 들어오므로, 서명 검증/클레임 파싱 결과를
+ * 토큰 SHA-256 digest 기준으로 캐싱한다. (원문 토큰은 보관하지 않음)
+ * <ul>
+ *   <li>크기 제한: {@code jwt.cache.maximum-size}</li>
+ *   <li>만료: 엔트리별로 토큰 만료 시각에 제거</li>
+ *   <li>메트릭: {@code cache.gets/puts/evictions{cache=jwt.verified-token}} (actuator)</li>
+ * </ul>
+ * 서명/만료 검증 결과만 담으므로 폐기(로그아웃)나 토큰 버전 변경으로 엔트리를 제거하지 않는다.
+ * 폐기 여부는 캐시 조회 후 {@link TokenRevocationList}, {@link TokenVersionRegistry}로 매 요청 확인한다.
+ * (다른 노드의 폐기도 같은 경로로 반영됨)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+        final JwtTokenProvider jwtTokenProvider,
+        final MeterRegistry meterRegistry,
+        @Value("${jwt.cache.maximum-size:100000}") final long maximumSize
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 검증 후 저장
+     *
+     * <p>검증 실패(ApiException)는 캐싱하지 않는다.
+     */
+    public VerifiedToken verify(final String token) {
+        return cache.get(digest(token), key -> jwtTokenProvider.verify(token));
+    }
+
+    /**
+     * 토큰 SHA-256 digest (캐시 키)
+     */
+    private String digest(final String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 엔트리별 만료: 토큰 만료 시각까지만 보관
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedToken value, final long currentTime) {
+            final long remainingMillis = value.expiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+            return Math.max(0L, remainingMillis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            final String key,
+            final VerifiedToken value,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            final String key,
+            final VerifiedToken value,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
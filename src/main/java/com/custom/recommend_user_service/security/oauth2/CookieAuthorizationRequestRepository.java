@@ -0,0 +1,296 @@
+package com.custom.recommend_user_service.security.oauth2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OAuth2 인가 요청 저장소 (쿠키, 세션 미사용)
+ *
+ * <p>인가 요청을 암호화한 쿠키로 브라우저에 보관하므로 어느 노드든 콜백을 처리할 수 있다.
+ * <ul>
+ *   <li>암호화: AES-256-GCM (무결성 포함, AAD = 쿠키 이름). 키는 {@code security.oauth2.authorization-request.secret}
+ *       (기본 jwt.secret)에서 HMAC-SHA256으로 유도한다. 모든 노드가 같은 값을 써야 한다.</li>
+ *   <li>직렬화: 필드별 UTF 문자열 (Java 역직렬화 없음)</li>
+ *   <li>만료: {@code security.oauth2.authorization-request.ttl} (쿠키 Max-Age + 암호문 안의 만료 시각)</li>
+ *   <li>콜백의 state 파라미터가 저장된 state와 다르면 없는 것으로 본다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CookieAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String COOKIE_NAME = "OAUTH2_AUTH_REQUEST";
+    private static final String COOKIE_PATH = "/api/oauth2";
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final byte[] KEY_INFO = "oauth2-authorization-request".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] AAD = COOKIE_NAME.getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKey key;
+    private final Duration ttl;
+    private final boolean secure;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public CookieAuthorizationRequestRepository(
+        @Value("${security.oauth2.authorization-request.secret:${jwt.secret:}}") final String secret,
+        @Value("${security.oauth2.authorization-request.ttl:3m}") final Duration ttl,
+        @Value("${security.oauth2.authorization-request.secure-cookie:true}") final boolean secure
+    ) {
+        this.key = deriveKey(secret);
+        this.ttl = ttl;
+        this.secure = secure;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(final HttpServletRequest request) {
+        final String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (state == null) {
+            return null;
+        }
+        final OAuth2AuthorizationRequest authorizationRequest = readCookie(request);
+        return authorizationRequest != null && state.equals(authorizationRequest.getState()) ? authorizationRequest : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(
+        final OAuth2AuthorizationRequest authorizationRequest,
+        final HttpServletRequest request,
+        final HttpServletResponse response
+    ) {
+        if (authorizationRequest == null) {
+            deleteCookie(response);
+            return;
+        }
+        final String value = encrypt(serialize(authorizationRequest, Instant.now().plus(ttl)));
+        addCookie(response, value, ttl);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(
+        final HttpServletRequest request,
+        final HttpServletResponse response
+    ) {
+        final OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            deleteCookie(response);
+        }
+        return authorizationRequest;
+    }
+
+    private OAuth2AuthorizationRequest readCookie(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (final Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return deserialize(decrypt(cookie.getValue()));
+                } catch (final GeneralSecurityException | IOException | IllegalArgumentException e) {
+                    // 변조/다른 키/형식 오류 → 없는 것으로 처리
+                    log.warn("[OAuth2] 인가 요청 쿠키 복호화 실패: {}", e.getMessage());
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void addCookie(final HttpServletResponse response, final String value, final Duration maxAge) {
+        final ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+            .path(COOKIE_PATH)
+            .httpOnly(true)
+            .secure(secure)
+            .sameSite("Lax")  // 제공자 → 콜백 리다이렉트(top-level GET)에는 전송됨
+            .maxAge(maxAge)
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private void deleteCookie(final HttpServletResponse response) {
+        addCookie(response, "", Duration.ZERO);
+    }
+
+    // === 직렬화 ===
+
+    private static byte[] serialize(final OAuth2AuthorizationRequest request, final Instant expiresAt) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(expiresAt.getEpochSecond());
+            writeString(out, request.getAuthorizationUri());
+            writeString(out, request.getClientId());
+            writeString(out, request.getRedirectUri());
+            writeString(out, request.getState());
+            writeString(out, request.getAuthorizationRequestUri());
+            out.writeShort(request.getScopes().size());
+            for (final String scope : request.getScopes()) {
+                out.writeUTF(scope);
+            }
+            writeMap(out, request.getAdditionalParameters());
+            writeMap(out, request.getAttributes());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (final IOException e) {
+            throw new IllegalStateException("OAuth2 인가 요청을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static OAuth2AuthorizationRequest deserialize(final byte[] payload) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        if (in.readByte() != FORMAT_VERSION) {
+            throw new IOException("unsupported format");
+        }
+        if (Instant.ofEpochSecond(in.readLong()).isBefore(Instant.now())) {
+            throw new IOException("expired");
+        }
+
+        final String authorizationUri = readString(in);
+        final String clientId = readString(in);
+        final String redirectUri = readString(in);
+        final String state = readString(in);
+        final String authorizationRequestUri = readString(in);
+        final int scopeCount = in.readUnsignedShort();
+        final Set<String> scopes = new LinkedHashSet<>(scopeCount);
+        for (int i = 0; i < scopeCount; i++) {
+            scopes.add(in.readUTF());
+        }
+        final Map<String, Object> additionalParameters = readMap(in);
+        final Map<String, Object> attributes = readMap(in);
+
+        return OAuth2AuthorizationRequest.authorizationCode()
+            .authorizationUri(authorizationUri)
+            .clientId(clientId)
+            .redirectUri(redirectUri)
+            .state(state)
+            .scopes(scopes)
+            .additionalParameters(additionalParameters)
+            .attributes(attributes)
+            .authorizationRequestUri(authorizationRequestUri)
+            .build();
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * 문자열 값만 저장한다. (PKCE code_verifier, OIDC nonce, registration_id 등)
+     */
+    private static void writeMap(final DataOutputStream out, final Map<String, Object> map) throws IOException {
+        final Map<String, String> values = new LinkedHashMap<>();
+        map.forEach((name, value) -> {
+            if (value != null) {
+                values.put(name, value.toString());
+            }
+        });
+        out.writeShort(values.size());
+        for (final Map.Entry<String, String> entry : values.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(final DataInputStream in) throws IOException {
+        final int size = in.readUnsignedShort();
+        final Map<String, Object> map = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            map.put(in.readUTF(), in.readUTF());
+        }
+        return map;
+    }
+
+    // === 암호화 ===
+
+    private String encrypt(final byte[] plaintext) {
+        try {
+            final byte[] iv = new byte[IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(AAD);
+            final byte[] ciphertext = cipher.doFinal(plaintext);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array());
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 인가 요청을 암호화할 수 없습니다.", e);
+        }
+    }
+
+    private byte[] decrypt(final String value) throws GeneralSecurityException {
+        final byte[] data = Base64.getUrlDecoder().decode(value);
+        if (data.length <= IV_LENGTH) {
+            throw new GeneralSecurityException("too short");
+        }
+        final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+        cipher.updateAAD(AAD);
+        return cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH);
+    }
+
+    /**
+     * AES-256 키 = HMAC-SHA256(secret, "oauth2-authorization-request")
+     * secret이 없으면 프로세스별 임의 키 (단일 노드에서만 동작)
+     */
+    private SecretKey deriveKey(final String secret) {
+        final byte[] keyBytes;
+        if (StringUtils.hasText(secret)) {
+            try {
+                final Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+                keyBytes = mac.doFinal(KEY_INFO);
+            } catch (final GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        } else {
+            log.warn("[OAuth2] security.oauth2.authorization-request.secret 미설정: 노드별 임의 키 사용 (다중 노드에서 콜백 실패 가능)");
+            keyBytes = new byte[32];
+            secureRandom.nextBytes(keyBytes);
+        }
+        return new SecretKeySpec(keyBytes, "AES");
+    }
+}
@@ -0,0 +1,125 @@
+package com.custom.recommend_user_service.security.oauth2;
+
+import java.net.URI;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+
+/**
+ * OIDC ID 토큰 검증기 (제공자별)
+ *
+ * <p>OIDC 로그인 시 Spring Security가 ID 토큰 검증에 사용한다. 서명키는 {@link ProviderJwksCache}에서
+ * kid로 찾으므로 키가 교체될 때만 제공자를 호출한다.
+ * <ul>
+ *   <li>서명: 제공자 JWKS (registration 의 jwk-set-uri)</li>
+ *   <li>aud = client-id, exp/nbf (허용 오차 60초)</li>
+ *   <li>iss = issuer-uri (설정된 경우, Google의 scheme 없는 "accounts.google.com" 도 허용)</li>
+ * </ul>
+ * nonce 는 Spring Security(OidcAuthorizationCodeAuthenticationProvider)가 검사한다.
+ */
+@Component
+public class IdTokenDecoderFactory implements JwtDecoderFactory<ClientRegistration> {
+
+    private static final long CLOCK_SKEW_SECONDS = 60;
+    private static final List<String> TIME_CLAIMS = List.of("exp", "iat", "nbf", "auth_time");
+
+    private final ProviderJwksCache jwksCache;
+    private final Map<String, JwtDecoder> decoders = new ConcurrentHashMap<>();
+
+    public IdTokenDecoderFactory(final ProviderJwksCache jwksCache) {
+        this.jwksCache = jwksCache;
+    }
+
+    @Override
+    public JwtDecoder createDecoder(final ClientRegistration registration) {
+        return decoders.computeIfAbsent(registration.getRegistrationId(), id -> newDecoder(registration));
+    }
+
+    private JwtDecoder newDecoder(final ClientRegistration registration) {
+        final String jwkSetUri = registration.getProviderDetails().getJwkSetUri();
+        if (!StringUtils.hasText(jwkSetUri)) {
+            throw new OAuth2AuthenticationException(new OAuth2Error(
+                "missing_signature_verifier",
+                "jwk-set-uri 가 없어 ID 토큰을 검증할 수 없습니다: " + registration.getRegistrationId(),
+                null
+            ));
+        }
+
+        final URI jwksUri = URI.create(jwkSetUri);
+        final String issuer = registration.getProviderDetails().getIssuerUri();
+        final JwtParser parser = Jwts.parser()
+            .keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(final JwsHeader header) {
+                    return header.getKeyId() != null ? jwksCache.getKey(jwksUri, header.getKeyId()) : null;
+                }
+            })
+            .requireAudience(registration.getClientId())
+            .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+            .build();
+
+        return token -> {
+            final Jws<Claims> jws;
+            try {
+                jws = parser.parseSignedClaims(token);
+            } catch (final io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+                throw new BadJwtException("ID 토큰 검증 실패: " + e.getMessage(), e);
+            }
+
+            final Claims claims = jws.getPayload();
+            if (StringUtils.hasText(issuer) && !isExpectedIssuer(issuer, claims.getIssuer())) {
+                throw new BadJwtException("ID 토큰 발급자 불일치: " + claims.getIssuer());
+            }
+            return toJwt(token, jws.getHeader(), claims);
+        };
+    }
+
+    private static boolean isExpectedIssuer(final String expected, final String actual) {
+        return expected.equals(actual) || expected.equals("https://" + actual);
+    }
+
+    /**
+     * jjwt 결과 → Spring Jwt (시간 클레임은 Instant, aud는 List)
+     */
+    private static Jwt toJwt(final String token, final Map<String, Object> header, final Claims claims) {
+        final Map<String, Object> converted = new LinkedHashMap<>(claims);
+        for (final String name : TIME_CLAIMS) {
+            final Object value = converted.get(name);
+            if (value instanceof Date date) {
+                converted.put(name, date.toInstant());
+            } else if (value instanceof Number number) {
+                converted.put(name, Instant.ofEpochSecond(number.longValue()));
+            }
+        }
+        if (converted.get("aud") instanceof Collection<?> audience) {
+            converted.put("aud", List.copyOf(audience));
+        }
+
+        return Jwt.withTokenValue(token)
+            .headers(headers -> headers.putAll(header))
+            .claims(values -> values.putAll(converted))
+            .build();
+    }
+}
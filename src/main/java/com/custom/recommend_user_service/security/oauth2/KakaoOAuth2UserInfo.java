@@ -20,9 +20,13 @@ public class KakaoOAuth2UserInfo implements OAuth2UserInfo {
         return (String) attributes.get("email");
     }
 
+    /**
+     * 카카오 ID 토큰은 name 대신 nickname 클레임을 준다.
+     */
     @Override
     public String getName() {
-        return (String) attributes.get("name");
+        final Object name = attributes.get("name");
+        return name != null ? (String) name : (String) attributes.get("nickname");
     }
 
     @Override
@@ -0,0 +1,61 @@
+package com.custom.recommend_user_service.security.oauth2;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.OidcUserInfo;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+import com.custom.recommend_user_service.enums.Role;
+
+/**
+ * 소셜 로그인 인증 주체
+ *
+ * <p>upsert 결과(사용자 ID, 권한, 토큰 버전)를 담아 로그인 성공 시 DB 재조회 없이 토큰을 발급한다.
+ * 이름(getName)은 사용자 ID이다. (JWT subject와 동일)
+ * OIDC 로그인이면 검증된 ID 토큰을 함께 담는다. (userinfo 미조회)
+ */
+public record OAuth2UserPrincipal(
+    Long userId,
+    String email,
+    String name,
+    Role role,
+    int tokenVersion,
+    Map<String, Object> attributes,
+    OidcIdToken idToken
+) implements OidcUser {
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.getKey()));
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    public Map<String, Object> getClaims() {
+        return idToken != null ? idToken.getClaims() : attributes;
+    }
+
+    @Override
+    public OidcUserInfo getUserInfo() {
+        return null;
+    }
+
+    @Override
+    public OidcIdToken getIdToken() {
+        return idToken;
+    }
+}
@@ -0,0 +1,237 @@
+package com.custom.recommend_user_service.security.oauth2;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜 로그인 제공자 공개키 캐시 (JWKS, kid 기준)
+ *
+ * <p>ID 토큰 서명 검증용. 요청 경로에서는 메모리 조회만 한다.
+ * <ul>
+ *   <li>처음 사용하는 JWKS URI: 조회 후 캐시</li>
+ *   <li>모르는 kid: 키 교체로 보고 즉시 다시 조회 (URI별 {@code security.oauth2.jwks.min-refresh-interval} 에 1회까지)</li>
+ *   <li>조회 실패: {@code security.oauth2.jwks.failure-backoff} 뒤에 다시 시도 (기존 키 유지)</li>
+ *   <li>URI별 조회는 한 번에 하나. 기다리는 요청은 끝난 결과를 그대로 쓴다 (가상 스레드를 고정하지 않도록 ReentrantLock)</li>
+ *   <li>백그라운드 갱신: {@code security.oauth2.jwks.refresh-interval-millis} 마다 등록된 URI 전체 (실패 시 기존 키 유지)</li>
+ *   <li>메트릭: oauth2.jwks.fetch{outcome=success|failure}</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ProviderJwksCache {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final long minRefreshIntervalNanos;
+    private final long failureBackoffNanos;
+    private final Map<URI, KeySet> keySets = new ConcurrentHashMap<>();
+
+    private final Counter fetchSuccessCounter;
+    private final Counter fetchFailureCounter;
+
+    public ProviderJwksCache(
+        final ObjectMapper objectMapper,
+        final MeterRegistry meterRegistry,
+        @Value("${security.oauth2.jwks.request-timeout:3s}") final Duration requestTimeout,
+        @Value("${security.oauth2.jwks.min-refresh-interval:1m}") final Duration minRefreshInterval,
+        @Value("${security.oauth2.jwks.failure-backoff:5s}") final Duration failureBackoff
+    ) {
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.failureBackoffNanos = failureBackoff.toNanos();
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+        this.fetchSuccessCounter = Counter.builder("oauth2.jwks.fetch")
+            .description("제공자 JWKS 조회 수")
+            .tag("outcome", "success")
+            .register(meterRegistry);
+        this.fetchFailureCounter = Counter.builder("oauth2.jwks.fetch")
+            .description("제공자 JWKS 조회 수")
+            .tag("outcome", "failure")
+            .register(meterRegistry);
+    }
+
+    /**
+     * kid에 해당하는 공개키 (없으면 null)
+     */
+    public PublicKey getKey(final URI jwksUri, final String kid) {
+        final KeySet keySet = keySets.computeIfAbsent(jwksUri, KeySet::new);
+
+        PublicKey key = keySet.keys.get(kid);
+        if (key == null) {
+            // 처음 조회 또는 키 교체
+            keySet.refresh(false);
+            key = keySet.keys.get(kid);
+        }
+        return key;
+    }
+
+    /**
+     * 등록된 JWKS 전체 갱신
+     */
+    @Scheduled(
+        initialDelayString = "${security.oauth2.jwks.refresh-interval-millis:3600000}",
+        fixedDelayString = "${security.oauth2.jwks.refresh-interval-millis:3600000}"
+    )
+    public void refreshAll() {
+        keySets.values().forEach(keySet -> keySet.refresh(true));
+    }
+
+    private Map<String, PublicKey> fetch(final URI jwksUri) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(jwksUri)
+            .timeout(requestTimeout)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+        final HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("JWKS status " + response.statusCode());
+        }
+
+        final Map<String, PublicKey> keys = new HashMap<>();
+        for (final JsonNode jwk : objectMapper.readTree(response.body()).path("keys")) {
+            final String kid = jwk.path("kid").asText(null);
+            final String use = jwk.path("use").asText("sig");
+            if (kid == null || !"sig".equals(use)) {
+                continue;
+            }
+            try {
+                final PublicKey key = toPublicKey(jwk);
+                if (key != null) {
+                    keys.put(kid, key);
+                }
+            } catch (final GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("[JWKS] 키 변환 실패: uri={}, kid={}, message={}", jwksUri, kid, e.getMessage());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * JWK → 공개키 (RSA, EC만 지원)
+     */
+    private static PublicKey toPublicKey(final JsonNode jwk) throws GeneralSecurityException {
+        return switch (jwk.path("kty").asText()) {
+            case "RSA" -> KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                unsigned(jwk.path("n").asText()),
+                unsigned(jwk.path("e").asText())
+            ));
+            case "EC" -> {
+                final AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec(curveName(jwk.path("crv").asText())));
+                yield KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(
+                    new ECPoint(unsigned(jwk.path("x").asText()), unsigned(jwk.path("y").asText())),
+                    parameters.getParameterSpec(ECParameterSpec.class)
+                ));
+            }
+            default -> null;
+        };
+    }
+
+    private static String curveName(final String crv) {
+        return switch (crv) {
+            case "P-256" -> "secp256r1";
+            case "P-384" -> "secp384r1";
+            case "P-521" -> "secp521r1";
+            default -> throw new IllegalArgumentException("Unsupported curve: " + crv);
+        };
+    }
+
+    private static BigInteger unsigned(final String base64Url) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+    }
+
+    /**
+     * JWKS URI 하나의 키 목록 (교체 시 통째로 바꾼다)
+     */
+    private final class KeySet {
+        private final URI uri;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Map<String, PublicKey> keys = Map.of();
+        // 마지막 성공/실패 시각 (System.nanoTime), 해당 결과가 없으면 fetched/failed = false
+        private volatile long fetchedAt;
+        private volatile boolean fetched;
+        private volatile long failedAt;
+        private volatile boolean failed;
+
+        private KeySet(final URI uri) {
+            this.uri = uri;
+        }
+
+        /**
+         * @param force true면 최소 간격/실패 대기 무시 (백그라운드 갱신)
+         */
+        private void refresh(final boolean force) {
+            lock.lock();
+            try {
+                // 기다리는 동안 다른 요청이 조회를 끝냈으면 그 결과를 쓴다
+                if (!force && isFresh(System.nanoTime())) {
+                    return;
+                }
+                try {
+                    final Map<String, PublicKey> fetchedKeys = fetch(uri);
+                    keys = Map.copyOf(fetchedKeys);
+                    fetchedAt = System.nanoTime();
+                    fetched = true;
+                    failed = false;
+                    fetchSuccessCounter.increment();
+                    log.info("[JWKS] 공개키 갱신: uri={}, kids={}", uri, fetchedKeys.keySet());
+                } catch (final IOException e) {
+                    markFailed();
+                    log.warn("[JWKS] 공개키 조회 실패 (기존 키 유지): uri={}, message={}", uri, e.getMessage());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    markFailed();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isFresh(final long now) {
+            return (fetched && now - fetchedAt < minRefreshIntervalNanos)
+                || (failed && now - failedAt < failureBackoffNanos);
+        }
+
+        private void markFailed() {
+            failedAt = System.nanoTime();
+            failed = true;
+            fetchFailureCounter.increment();
+        }
+    }
+}
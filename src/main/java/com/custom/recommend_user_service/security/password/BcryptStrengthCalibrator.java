@@ -0,0 +1,74 @@
+package com.custom.recommend_user_service.security.password;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * bcrypt strength(cost) 보정
+ *
+ * <p>서버 시작 시 실제 하드웨어에서 해시 시간을 측정해 목표 시간에 가장 가까운 strength를 고른다.
+ * strength가 1 오를 때마다 해시 시간은 약 2배가 된다.
+ */
+@Slf4j
+public final class BcryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+    private static final int SAMPLES = 3;
+
+    private BcryptStrengthCalibrator() {
+    }
+
+    /**
+     * 목표 해시 시간에 가장 가까운 strength 계산
+     *
+     * @param targetMillis 목표 해시 시간 (ms)
+     * @param minStrength 최소 strength (보안 하한)
+     * @param maxStrength 최대 strength
+     * @return 보정된 strength
+     */
+    public static int calibrate(final long targetMillis, final int minStrength, final int maxStrength) {
+        final long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+
+        // JIT 워밍업
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+        long previousElapsed = 0L;
+
+        while (elapsed < targetNanos && strength < maxStrength) {
+            previousElapsed = elapsed;
+            strength++;
+            elapsed = measure(strength);
+        }
+
+        // 목표를 넘었으면 직전 strength와 비교해 더 가까운 쪽 선택 (배수 기준)
+        if (strength > minStrength && elapsed > targetNanos
+            && (double) elapsed / targetNanos > (double) targetNanos / previousElapsed) {
+            strength--;
+            elapsed = previousElapsed;
+        }
+
+        log.info("[BcryptStrengthCalibrator] strength={}, hashMillis={}, targetMillis={}",
+            strength, TimeUnit.NANOSECONDS.toMillis(elapsed), targetMillis);
+        return strength;
+    }
+
+    /**
+     * 해시 시간 측정 (최솟값)
+     */
+    private static long measure(final int strength) {
+        final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            final long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,228 @@
+package com.custom.recommend_user_service.security.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.exception.ApiException;
+import com.custom.recommend_user_service.exception.ExpectedApiException;
+import com.custom.recommend_user_service.monitoring.jfr.PasswordHashEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * <p>bcrypt는 CPU를 오래 점유하므로 Tomcat 요청 스레드가 아닌 CPU 코어 수만큼의 전용 스레드에서 실행한다.
+ * <ul>
+ *   <li>큐 크기 제한: {@code security.password.executor.queue-capacity}</li>
+ *   <li>승인 제어: 예상 대기시간(큐 길이 × 평균 해시 시간 / 스레드 수)이
+ *       {@code security.password.executor.latency-budget-millis}를 넘으면 즉시 503(SERVICE_BUSY)</li>
+ *   <li>메트릭: password.hash.queue.depth, password.hash.wait, password.hash.duration, password.hash.rejected</li>
+ *   <li>JFR: recommend.auth.PasswordHash (해시 시간 + 큐 대기 시간)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    // 평균 해시 시간 초기값 (bcrypt strength 10 기준 대략치)
+    private static final long INITIAL_HASH_NANOS = TimeUnit.MILLISECONDS.toNanos(80);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long latencyBudgetNanos;
+
+    // 해시 시간 이동평균 (EWMA, 1/8 가중치)
+    private final AtomicLong averageHashNanos = new AtomicLong(INITIAL_HASH_NANOS);
+
+    private final Timer waitTimer;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(
+        final PasswordEncoder passwordEncoder,
+        final MeterRegistry meterRegistry,
+        @Value("${security.password.executor.threads:0}") final int threads,
+        @Value("${security.password.executor.queue-capacity:256}") final int queueCapacity,
+        @Value("${security.password.executor.latency-budget-millis:500}") final long latencyBudgetMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+        this.executor = new ThreadPoolExecutor(
+            this.threads,
+            this.threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("password-hash-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+            .description("비밀번호 해시 대기 작업 수")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+            .description("비밀번호 해시 큐 대기 시간")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.duration")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+            .description("과부하로 거절된 해시 요청 수")
+            .register(meterRegistry);
+
+        log.info("[PasswordHashingExecutor] threads={}, queueCapacity={}, latencyBudgetMillis={}",
+            this.threads, queueCapacity, latencyBudgetMillis);
+    }
+
+    /**
+     * 비밀번호 일치 여부 (전용 스레드에서 실행)
+     */
+    public boolean matches(final String rawPassword, final String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 암호화 (전용 스레드에서 실행)
+     */
+    public String encode(final String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 재해시 필요 여부 (strength 변경, prefix 없는 해시)
+     */
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 백그라운드 암호화 (요청 스레드는 기다리지 않음)
+     *
+     * <p>로그인 성공 후 재해시처럼 미뤄도 되는 작업용.
+     * 과부하 상태면 제출하지 않고 SERVICE_BUSY({@link ExpectedApiException})로 실패한 future 반환.
+     */
+    public CompletableFuture<String> encodeInBackground(final String rawPassword) {
+        if (estimatedWaitNanos() > latencyBudgetNanos) {
+            return CompletableFuture.failedFuture(reject("latency budget exceeded"));
+        }
+
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        final Callable<String> task = timed(encodeTimer, System.nanoTime(), () -> passwordEncoder.encode(rawPassword));
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(task.call());
+                } catch (final Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(reject("queue full"));
+        }
+        return result;
+    }
+
+    private <T> T execute(final Timer hashTimer, final Callable<T> task) {
+        admit();
+
+        final Future<T> future;
+        try {
+            future = executor.submit(timed(hashTimer, System.nanoTime(), task));
+        } catch (final RejectedExecutionException e) {
+            throw reject("queue full");
+        }
+
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ApiException(ErrorCode.SERVICE_BUSY, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * 대기/해시 시간 측정을 감싼 작업
+     */
+    private <T> Callable<T> timed(final Timer hashTimer, final long enqueuedAt, final Callable<T> task) {
+        return () -> {
+            final long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            final PasswordHashEvent event = new PasswordHashEvent();
+            event.begin();
+            try {
+                return task.call();
+            } finally {
+                final long elapsed = System.nanoTime() - startedAt;
+                hashTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                averageHashNanos.accumulateAndGet(elapsed, (average, sample) -> average + (sample - average) / 8);
+
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = hashTimer.getId().getTag("operation");
+                    event.queueWait = startedAt - enqueuedAt;
+                    event.commit();
+                }
+            }
+        };
+    }
+
+    /**
+     * 승인 제어: 예상 대기시간이 예산을 넘으면 큐에 넣지 않고 바로 거절
+     */
+    private void admit() {
+        if (estimatedWaitNanos() > latencyBudgetNanos) {
+            throw reject("latency budget exceeded");
+        }
+    }
+
+    /**
+     * 예상 대기시간 = 큐 길이 × 평균 해시 시간 / 스레드 수
+     */
+    private long estimatedWaitNanos() {
+        return executor.getQueue().size() * averageHashNanos.get() / threads;
+    }
+
+    private ApiException reject(final String reason) {
+        rejectedCounter.increment();
+        log.warn("[PasswordHashingExecutor] 해시 요청 거절: reason={}, queued={}",
+            reason, executor.getQueue().size());
+        // 과부하 시 대량으로 발생하므로 스택 없는 예외
+        return new ExpectedApiException(ErrorCode.SERVICE_BUSY);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -3,39 +3,76 @@ package com.custom.recommend_user_service.service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.custom.recommend_user_service.common.StageTimer;
 import com.custom.recommend_user_service.dto.request.LoginRequest;
 import com.custom.recommend_user_service.dto.response.LoginResponse;
 import com.custom.recommend_user_service.dto.response.TokenResponse;
-import com.custom.recommend_user_service.entity.User;
 import com.custom.recommend_user_service.enums.ErrorCode;
 import com.custom.recommend_user_service.exception.ApiException;
-import com.custom.recommend_user_service.repository.LoginRepository;
-import com.custom.recommend_user_service.security.jwt.JwtTokenProvider;
+import com.custom.recommend_user_service.exception.ExpectedApiException;
+import com.custom.recommend_user_service.repository.projection.UserCredential;
+import com.custom.recommend_user_service.security.jwt.TokenRevocationList;
+import com.custom.recommend_user_service.security.jwt.VerifiedToken;
+import com.custom.recommend_user_service.security.password.PasswordHashingExecutor;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 로그인 서비스
+ *
+ * <p>사용자 조회는 {@link UserCredentialCache}, 로그인 결과 반영은 {@link LoginFailureTracker}/
+ * {@link LoginSuccessBuffer}가 담당하므로 트랜잭션을 열지 않는다. (캐시 적중 시 DB 커넥션 미사용)
+ *
+ * <p>메트릭: auth.login.duration{outcome}, auth.login.stage.duration{stage, outcome}
+ * (stage: lookup, provider, password, status, update, token / outcome: success, unknown_email, bad_password,
+ * locked, oauth_user, inactive, deleted, stale_credential, busy, error), JFR recommend.auth.Stage
  */
 @Slf4j
-@RequiredArgsConstructor
 @Service
-@Transactional(readOnly = true)
 public class AuthService {
 
-    private final PasswordEncoder passwordEncoder;
-    private final LoginRepository loginRepository;
-    private final JwtTokenProvider jwtTokenProvider;
+    private static final String STAGE_LOOKUP = "lookup";
+    private static final String STAGE_PROVIDER = "provider";
+    private static final String STAGE_PASSWORD = "password";
+    private static final String STAGE_STATUS = "status";
+    private static final String STAGE_UPDATE = "update";
+    private static final String STAGE_TOKEN = "token";
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserCredentialCache userCredentialCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordRehashService passwordRehashService;
+    private final LoginFailureTracker loginFailureTracker;
+    private final LoginSuccessBuffer loginSuccessBuffer;
+    private final StageTimer loginTimer;
     
-    private static final int MAX_LOGIN_FAIL_COUNT = 5;
-    private static final int ACCOUNT_LOCK_HOURS = 1;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    public AuthService(
+        PasswordHashingExecutor passwordHashingExecutor,
+        UserCredentialCache userCredentialCache,
+        RefreshTokenService refreshTokenService,
+        TokenRevocationList tokenRevocationList,
+        PasswordRehashService passwordRehashService,
+        LoginFailureTracker loginFailureTracker,
+        LoginSuccessBuffer loginSuccessBuffer,
+        MeterRegistry meterRegistry
+    ) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userCredentialCache = userCredentialCache;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.passwordRehashService = passwordRehashService;
+        this.loginFailureTracker = loginFailureTracker;
+        this.loginSuccessBuffer = loginSuccessBuffer;
+        this.loginTimer = new StageTimer(meterRegistry, "auth.login");
+    }
+
     /**
      * 로그인 요청
      * @param request
@@ -45,32 +82,55 @@ public class AuthService {
 
         log.info("[LoginService] 로그인 시도: email={}", request.email());
 
-        // 1. 사용자 인증
-        User user = loginRepository.findUserByEmail(request.email());
-        if(user == null){
-            throw new ApiException(ErrorCode.LOGIN_FAILED);
-        }
-        // 2. 패스워드 검증
-        verifyPassword(user, request.password());
+        StageTimer.Recording recording = loginTimer.start();
+        UserCredential user;
+        TokenResponse tokenResponse;
+        try {
+            // 1. 사용자 인증
+            recording.begin(STAGE_LOOKUP);
+            user = userCredentialCache.get(request.email())
+                .orElseThrow(() -> new ExpectedApiException(ErrorCode.LOGIN_FAILED));
+            recording.userId(user.id());
 
-        // 3. 계정상태 검증
-        validateAccountStatus(user);
+            // 2. OAuth 사용자 차단 (비밀번호가 없으므로 해시 비교/실패 집계 전에)
+            recording.begin(STAGE_PROVIDER);
+            rejectOAuthUser(user);
 
-        // 4. 로그인 성공 처리
-        user.loginSuccess();
+            // 3. 패스워드 검증
+            recording.begin(STAGE_PASSWORD);
+            verifyPassword(user, request.password());
 
-        // 5. 토큰 발급
-        // accessToken + refreshToken
-        TokenResponse tokenResponse = jwtTokenProvider.createToken(user);
+            // 4. 계정상태 검증
+            recording.begin(STAGE_STATUS);
+            validateAccountStatus(user);
 
-        log.info("[LoginService] 로그인 성공: userId={}, email={}", user.getId(), maskEmail(user.getEmail()));
+            // 5. 로그인 성공 처리 (lastLoginAt 등은 주기적으로 일괄 반영)
+            recording.begin(STAGE_UPDATE);
+            loginSuccessBuffer.record(user.id());
+            loginFailureTracker.reset(user.id());
+            passwordRehashService.rehashIfNeeded(user, request.password());
 
-        // 6. 결과
+            // 6. 토큰 발급
+            // accessToken + refreshToken (새 family)
+            recording.begin(STAGE_TOKEN);
+            tokenResponse = issueTokens(user);
+            recording.success();
+        } catch (ApiException e) {
+            recording.fail(loginOutcome(recording.stage(), e));
+            throw e;
+        } catch (RuntimeException e) {
+            recording.fail(StageTimer.OUTCOME_ERROR);
+            throw e;
+        }
+
+        log.info("[LoginService] 로그인 성공: userId={}, email={}", user.id(), maskEmail(user.email()));
+
+        // 7. 결과
         return LoginResponse.of(
-            user.getEmail(),
-            user.getName(),
-            user.getProfileImageUrl(),
-            user.getRole(),
+            user.email(),
+            user.name(),
+            user.profileImageUrl(),
+            user.role(),
             tokenResponse.accessToken(),
             tokenResponse.refreshToken(),
             tokenResponse.accessTokenExpiresIn(),
@@ -79,26 +139,59 @@ public class AuthService {
     }
 
     /**
-     * 계정 상태 검증
+     * 토큰 발급 (발급 시점에 DB 기준 상태/토큰 버전 확인)
+     * - 거부되면 캐시가 오래된 것이므로 제거 (다음 로그인은 DB에서 다시 조회)
      */
-    private void validateAccountStatus(User user) {
-        // OAuth 사용자 체크
+    private TokenResponse issueTokens(UserCredential user) {
+        try {
+            return refreshTokenService.issue(user.id(), user.role(), user.tokenVersion());
+        } catch (ApiException e) {
+            userCredentialCache.invalidate(user.email());
+            throw e;
+        }
+    }
+
+    /**
+     * 로그아웃
+     * - Access Token: 만료 전까지 폐기 목록에 등록 (모든 노드에서 거부)
+     * - Refresh Token: 전달된 경우 같은 family 전체 폐기
+     * @param accessToken 현재 요청의 Access Token
+     * @param refreshToken Refresh Token (선택)
+     */
+    public void logout(VerifiedToken accessToken, String refreshToken) {
+        tokenRevocationList.revoke(accessToken);
+
+        if (StringUtils.hasText(refreshToken)) {
+            refreshTokenService.revoke(refreshToken);
+        }
+
+        log.info("[LoginService] 로그아웃: userId={}", accessToken.userId());
+    }
+
+    /**
+     * OAuth 사용자 일반 로그인 차단 (로그인 실패 횟수에 포함하지 않는다)
+     * - 없는 이메일과 같은 응답 (계정 존재 여부/가입 경로를 노출하지 않는다)
+     */
+    private void rejectOAuthUser(UserCredential user) {
         if (user.isOAuthUser()) {
-            log.warn("[LoginService] OAuth 사용자 일반 로그인 시도: userId={}, provider={}", 
-                user.getId(), user.getProvider());
-            throw new ApiException(ErrorCode.LOGIN_FAILED,
-                String.format("%s 계정으로 로그인해주세요.", user.getProvider().name()));
+            log.info("[LoginService] OAuth 사용자 일반 로그인 시도: userId={}", user.id());
+            throw new ExpectedApiException(ErrorCode.LOGIN_FAILED);
         }
+    }
 
+    /**
+     * 계정 상태 검증 (실패는 예상된 결과이므로 스택 없는 예외)
+     */
+    private void validateAccountStatus(UserCredential user) {
         // 계정 상태 체크
-        switch (user.getStatus()) {
+        switch (user.status()) {
             case INACTIVE -> {
-                log.warn("[LoginService] 비활성화된 계정: userId={}", user.getId());
-                throw new ApiException(ErrorCode.ACCOUNT_INACTIVE, "비활성화된 계정입니다. 관리자에게 문의하세요.");
+                log.warn("[LoginService] 비활성화된 계정: userId={}", user.id());
+                throw new ExpectedApiException(ErrorCode.ACCOUNT_INACTIVE, "비활성화된 계정입니다. 관리자에게 문의하세요.");
             }
             case DELETED -> {
-                log.warn("[LoginService] 삭제된 계정: userId={}", user.getId());
-                throw new ApiException(ErrorCode.ACCOUNT_DELETED, "탈퇴한 계정입니다.");
+                log.warn("[LoginService] 삭제된 계정: userId={}", user.id());
+                throw new ExpectedApiException(ErrorCode.ACCOUNT_DELETED, "탈퇴한 계정입니다.");
             }
             case ACTIVE -> { /* 정상 */ }
         }
@@ -106,35 +199,61 @@ public class AuthService {
         // 계정 잠금 체크
         if (user.isAccountLocked()) {
             log.warn("[LoginService] 잠긴 계정: userId={}, lockedUntil={}", 
-                user.getId(), user.getAccountLockedUntil());
-            throw new ApiException(ErrorCode.ACCOUNT_LOCKED,
+                user.id(), user.accountLockedUntil());
+            throw new ExpectedApiException(ErrorCode.ACCOUNT_LOCKED,
                 String.format("계정이 잠겼습니다. %s 이후에 다시 시도해주세요.",
-                    formatDateTime(user.getAccountLockedUntil())));
+                    formatDateTime(user.accountLockedUntil())));
         }
     }
 
     /**
-     * 비밀번호 검증
+     * 비밀번호 검증 (해시 전용 스레드에서 실행, 과부하 시 SERVICE_BUSY)
+     * - 불일치는 크리덴셜 스터핑 시 가장 많은 응답이므로 스택 없는 예외
      */
-    private void verifyPassword(User user, String rawPassword) {
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
-            user.loginFailed();
-
-            int remainingAttempts = MAX_LOGIN_FAIL_COUNT - user.getLoginFailCount();
+    private void verifyPassword(UserCredential user, String rawPassword) {
+        if (!passwordHashingExecutor.matches(rawPassword, user.password())) {
+            // 실패 횟수는 메모리에서 집계, 잠금 전이 시에만 DB 저장
+            int failCount = loginFailureTracker.recordFailure(user.id(), user.email());
+            int remainingAttempts = loginFailureTracker.getMaxFailures() - failCount;
 
             log.warn("[LoginService] 비밀번호 불일치: userId={}, failCount={}", 
-                user.getId(), user.getLoginFailCount());
+                user.id(), failCount);
 
-            if (user.getLoginFailCount() >= MAX_LOGIN_FAIL_COUNT) {
-                throw new ApiException(ErrorCode.ACCOUNT_LOCKED);
+            if (failCount >= loginFailureTracker.getMaxFailures()) {
+                throw new ExpectedApiException(ErrorCode.ACCOUNT_LOCKED);
             }
 
-            throw new ApiException(ErrorCode.LOGIN_FAILED,
+            throw new ExpectedApiException(ErrorCode.LOGIN_FAILED,
                 String.format("이메일 또는 비밀번호가 올바르지 않습니다. (남은 시도: %d회)", 
                     Math.max(0, remainingAttempts)));
         }
     }
     
+    /**
+     * 로그인 실패 outcome 태그 (LOGIN_FAILED는 단계로 구분)
+     */
+    private String loginOutcome(String stage, ApiException e) {
+        if (e.getResultCode() == ErrorCode.LOGIN_FAILED) {
+            return switch (stage) {
+                case STAGE_LOOKUP -> "unknown_email";
+                case STAGE_PROVIDER -> "oauth_user";
+                case STAGE_PASSWORD -> "bad_password";
+                case STAGE_TOKEN -> "stale_credential";
+                default -> StageTimer.OUTCOME_ERROR;
+            };
+        }
+        if (e.getResultCode() instanceof ErrorCode errorCode) {
+            return switch (errorCode) {
+                case ACCOUNT_LOCKED -> "locked";
+                case ACCOUNT_INACTIVE -> "inactive";
+                case ACCOUNT_DELETED -> "deleted";
+                case SERVICE_BUSY -> "busy";
+                default -> StageTimer.OUTCOME_ERROR;
+            };
+        }
+        return StageTimer.OUTCOME_ERROR;
+    }
+
     /**
      * 이메일 마스킹 (로그 보안용)
      */
@@ -1,5 +1,191 @@
 package com.custom.recommend_user_service.service;
 
-public class CustomOAuth2UserService {
-    
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.enums.Provider;
+import com.custom.recommend_user_service.enums.Role;
+import com.custom.recommend_user_service.enums.UserStatus;
+import com.custom.recommend_user_service.security.oauth2.OAuth2UserInfo;
+import com.custom.recommend_user_service.security.oauth2.OAuth2UserInfoFactory;
+import com.custom.recommend_user_service.security.oauth2.OAuth2UserPrincipal;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜 로그인 사용자 서비스
+ *
+ * <p>제공자 사용자 정보를 받아 users 에 upsert 한다. (재방문은 SQL 1회)
+ * <ul>
+ *   <li>UPDATE ... RETURNING: 이미 가입된 사용자는 이름/프로필 이미지/last_login_at 갱신</li>
+ *   <li>갱신된 행이 없을 때만 INSERT (첫 로그인). 시퀀스 nextval 은 이때만 호출한다.
+ *       (INCREMENT BY 50 이라 호출마다 ID 50개를 소비한다)</li>
+ *   <li>INSERT 는 ON CONFLICT (provider, provider_id) DO UPDATE 로 동시 첫 로그인도 처리한다.</li>
+ *   <li>같은 이메일의 다른 계정(일반 가입 등)이 있으면 email unique 위반 → EMAIL_ALREADY_EXISTS</li>
+ *   <li>비활성/삭제 계정은 거부</li>
+ * </ul>
+ * 실패는 ErrorCode 코드를 OAuth2Error 코드로 담아 던진다. (로그인 실패 핸들러에서 응답으로 변환)
+ */
+@Slf4j
+@Service
+public class CustomOAuth2UserService extends DefaultOAuth2UserService {
+
+    private static final String UPDATE_SQL = """
+        UPDATE users
+           SET name = ?,
+               profile_image_url = ?,
+               last_login_at = ?
+         WHERE provider = ?
+           AND provider_id = ?
+        RETURNING id, email, name, role, status, token_version
+        """;
+
+    // id: 시퀀스 값을 그대로 사용한다. (pooled optimizer는 nextval 값 v에 대해 (v-50, v] 블록을 쓰므로
+    // 이 호출로 받은 블록은 다른 곳에서 사용되지 않는다)
+    private static final String INSERT_SQL = """
+        INSERT INTO users (id, provider, provider_id, email, name, profile_image_url,
+                           role, status, login_fail_count, token_version, created_at, last_login_at)
+        VALUES (nextval('users_id_seq'), ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)
+        ON CONFLICT (provider, provider_id) DO UPDATE
+           SET name = EXCLUDED.name,
+               profile_image_url = EXCLUDED.profile_image_url,
+               last_login_at = EXCLUDED.last_login_at
+        RETURNING id, email, name, role, status, token_version
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomOAuth2UserService(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public OAuth2User loadUser(final OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+        final OAuth2User oAuth2User = super.loadUser(userRequest);
+        final Provider provider = resolveProvider(userRequest.getClientRegistration().getRegistrationId());
+        return upsert(provider, oAuth2User.getAttributes(), null);
+    }
+
+    /**
+     * 제공자 사용자 정보(userinfo 응답 또는 ID 토큰 클레임)로 upsert 후 인증 주체 생성
+     * @param idToken OIDC 로그인이면 검증된 ID 토큰, 아니면 null
+     */
+    public OAuth2UserPrincipal upsert(
+        final Provider provider,
+        final Map<String, Object> attributes,
+        final OidcIdToken idToken
+    ) {
+        final OAuth2UserInfo userInfo = OAuth2UserInfoFactory.getOAuth2UserInfo(provider, attributes);
+        if (!StringUtils.hasText(userInfo.getProviderId()) || !StringUtils.hasText(userInfo.getEmail())) {
+            log.warn("[OAuth2] 사용자 정보 누락: provider={}", provider);
+            throw authenticationException(ErrorCode.OAUTH_USER_INFO_ERROR);
+        }
+
+        final UpsertedUser user = save(provider, userInfo);
+
+        switch (user.status()) {
+            case INACTIVE -> {
+                log.warn("[OAuth2] 비활성화된 계정: userId={}", user.id());
+                throw authenticationException(ErrorCode.ACCOUNT_INACTIVE);
+            }
+            case DELETED -> {
+                log.warn("[OAuth2] 삭제된 계정: userId={}", user.id());
+                throw authenticationException(ErrorCode.ACCOUNT_DELETED);
+            }
+            case ACTIVE -> { /* 정상 */ }
+        }
+
+        log.info("[OAuth2] 로그인: userId={}, provider={}", user.id(), provider);
+        return new OAuth2UserPrincipal(
+            user.id(),
+            user.email(),
+            user.name(),
+            user.role(),
+            user.tokenVersion(),
+            attributes,
+            idToken
+        );
+    }
+
+    /**
+     * 재방문이면 갱신, 없으면 가입
+     */
+    private UpsertedUser save(final Provider provider, final OAuth2UserInfo userInfo) {
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final String name = StringUtils.hasText(userInfo.getName()) ? userInfo.getName() : userInfo.getEmail();
+
+        final List<UpsertedUser> updated = jdbcTemplate.query(
+            UPDATE_SQL,
+            CustomOAuth2UserService::mapUser,
+            name,
+            userInfo.getProfileImageUrl(),
+            now,
+            provider.name(),
+            userInfo.getProviderId()
+        );
+        if (!updated.isEmpty()) {
+            return updated.get(0);
+        }
+
+        try {
+            return jdbcTemplate.queryForObject(
+                INSERT_SQL,
+                CustomOAuth2UserService::mapUser,
+                provider.name(),
+                userInfo.getProviderId(),
+                userInfo.getEmail(),
+                name,
+                userInfo.getProfileImageUrl(),
+                Role.USER.name(),
+                UserStatus.ACTIVE.name(),
+                now,
+                now
+            );
+        } catch (final DuplicateKeyException e) {
+            log.warn("[OAuth2] 이미 가입된 이메일: provider={}", provider);
+            throw authenticationException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+    }
+
+    public Provider resolveProvider(final String registrationId) {
+        try {
+            return Provider.fromRegistrationId(registrationId);
+        } catch (final IllegalArgumentException e) {
+            throw authenticationException(ErrorCode.OAUTH_PROVIDER_NOT_SUPPORTED);
+        }
+    }
+
+    private static UpsertedUser mapUser(final ResultSet rs, final int rowNum) throws SQLException {
+        return new UpsertedUser(
+            rs.getLong("id"),
+            rs.getString("email"),
+            rs.getString("name"),
+            Role.valueOf(rs.getString("role")),
+            UserStatus.valueOf(rs.getString("status")),
+            rs.getInt("token_version")
+        );
+    }
+
+    private static OAuth2AuthenticationException authenticationException(final ErrorCode errorCode) {
+        return new OAuth2AuthenticationException(new OAuth2Error(errorCode.getCode(), errorCode.getMessage(), null));
+    }
+
+    private record UpsertedUser(Long id, String email, String name, Role role, UserStatus status, int tokenVersion) {
+    }
 }
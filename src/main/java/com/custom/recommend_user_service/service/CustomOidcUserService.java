@@ -0,0 +1,34 @@
+package com.custom.recommend_user_service.service;
+
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.stereotype.Service;
+
+import com.custom.recommend_user_service.enums.Provider;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OIDC 소셜 로그인 사용자 서비스 (Google, 카카오 OIDC)
+ *
+ * <p>userinfo 엔드포인트를 호출하지 않고, 이미 검증된 ID 토큰 클레임으로 사용자 정보를 만든다.
+ * (ID 토큰 검증: {@code IdTokenDecoderFactory}, 제공자 JWKS 캐시 사용)
+ * upsert 는 {@link CustomOAuth2UserService}와 같다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CustomOidcUserService implements OAuth2UserService<OidcUserRequest, OidcUser> {
+
+    private final CustomOAuth2UserService customOAuth2UserService;
+
+    @Override
+    public OidcUser loadUser(final OidcUserRequest userRequest) throws OAuth2AuthenticationException {
+        final Provider provider = customOAuth2UserService.resolveProvider(
+            userRequest.getClientRegistration().getRegistrationId());
+        final OidcIdToken idToken = userRequest.getIdToken();
+        return customOAuth2UserService.upsert(provider, idToken.getClaims(), idToken);
+    }
+}
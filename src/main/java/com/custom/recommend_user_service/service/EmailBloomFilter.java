@@ -0,0 +1,231 @@
+package com.custom.recommend_user_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입 이메일 Bloom filter
+ *
+ * <p>회원가입 시 이메일 중복 조회 전에 확인한다. "없음"이 확실하면 existsByEmail 조회를 생략한다.
+ * "있을 수 있음"이면 기존대로 DB에서 확인하고, 최종 판단은 users.email unique 제약이 한다.
+ * <ul>
+ *   <li>시작 시(및 주기적으로) users.email 을 스트리밍 조회해 새로 만든 뒤 교체한다.</li>
+ *   <li>만들어지기 전에는 항상 "있을 수 있음"으로 응답한다. (DB 조회)</li>
+ *   <li>메트릭: signup.email_filter.* (크기, 추정 오탐률, 재구성 시간, 생략된 조회 수)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private static final String SELECT_EMAILS_SQL = "SELECT email FROM users";
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double targetFpp;
+
+    // 조회용 필터 (재구성 전 null)
+    private volatile Bits current;
+    // 재구성 중인 필터 (재구성 중 가입도 반영)
+    private volatile Bits building;
+    private volatile long lastRebuildMillis;
+
+    private final Counter skippedQueryCounter;
+
+    public EmailBloomFilter(
+        final JdbcTemplate jdbcTemplate,
+        final PlatformTransactionManager transactionManager,
+        final MeterRegistry meterRegistry,
+        @Value("${signup.email-filter.expected-insertions:1000000}") final long expectedInsertions,
+        @Value("${signup.email-filter.fpp:0.01}") final double targetFpp
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.targetFpp = targetFpp;
+
+        Gauge.builder("signup.email_filter.size.bytes", this, f -> f.current != null ? f.current.sizeInBytes() : 0)
+            .register(meterRegistry);
+        Gauge.builder("signup.email_filter.insertions", this, f -> f.current != null ? f.current.insertions() : 0)
+            .register(meterRegistry);
+        Gauge.builder("signup.email_filter.fpp", this, f -> f.current != null ? f.current.expectedFpp() : 1.0)
+            .description("현재 채워진 비트 기준 추정 오탐률")
+            .register(meterRegistry);
+        Gauge.builder("signup.email_filter.rebuild.millis", this, f -> f.lastRebuildMillis)
+            .register(meterRegistry);
+        this.skippedQueryCounter = Counter.builder("signup.email_filter.skipped_queries")
+            .description("Bloom filter로 생략된 이메일 중복 조회 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 등록된 이메일일 가능성 (false 면 확실히 없음)
+     */
+    public boolean mightContain(String email) {
+        final Bits bits = current;
+        if (bits == null || bits.mightContain(email)) {
+            return true;
+        }
+        skippedQueryCounter.increment();
+        return false;
+    }
+
+    /**
+     * 가입된 이메일 추가
+     */
+    public void put(String email) {
+        final Bits bits = current;
+        if (bits != null) {
+            bits.put(email);
+        }
+        final Bits rebuilding = building;
+        if (rebuilding != null) {
+            rebuilding.put(email);
+        }
+    }
+
+    /**
+     * 재구성 (시작 직후 + 주기적, 탈퇴 등으로 쌓인 오탐 정리)
+     */
+    @Scheduled(
+        initialDelayString = "${signup.email-filter.initial-delay-millis:0}",
+        fixedDelayString = "${signup.email-filter.rebuild-interval-millis:86400000}"
+    )
+    public void rebuild() {
+        final long startedAt = System.nanoTime();
+        final Bits bits = new Bits(expectedInsertions, targetFpp);
+        building = bits;
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                connection -> {
+                    final PreparedStatement statement = connection.prepareStatement(
+                        SELECT_EMAILS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> bits.put(rs.getString(1))
+            ));
+
+            current = bits;
+            lastRebuildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            log.info("[EmailBloomFilter] 재구성 완료: insertions={}, sizeBytes={}, fpp={}, millis={}",
+                bits.insertions(), bits.sizeInBytes(), bits.expectedFpp(), lastRebuildMillis);
+        } catch (final RuntimeException e) {
+            // 실패 시 기존 필터 유지 (없으면 계속 DB 조회)
+            log.error("[EmailBloomFilter] 재구성 실패", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * 비트 배열 (lock-free, double hashing)
+     */
+    static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final int hashCount;
+        private final LongAdder insertions = new LongAdder();
+        private final LongAdder setBits = new LongAdder();
+
+        Bits(long expectedInsertions, double fpp) {
+            final long n = Math.max(1L, expectedInsertions);
+            final long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            final int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+
+            this.words = new AtomicLongArray(wordCount);
+            this.bitSize = (long) wordCount * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        }
+
+        void put(String value) {
+            final long hash = hash(value);
+            final long h1 = hash;
+            final long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+            for (int i = 0; i < hashCount; i++) {
+                final long bit = Math.floorMod(h1 + i * h2, bitSize);
+                final int word = (int) (bit >>> 6);
+                final long mask = 1L << bit;
+                final long previous = words.getAndAccumulate(word, mask, (a, b) -> a | b);
+                if ((previous & mask) == 0) {
+                    setBits.increment();
+                }
+            }
+            insertions.increment();
+        }
+
+        boolean mightContain(String value) {
+            final long hash = hash(value);
+            final long h1 = hash;
+            final long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+            for (int i = 0; i < hashCount; i++) {
+                final long bit = Math.floorMod(h1 + i * h2, bitSize);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long insertions() {
+            return insertions.sum();
+        }
+
+        long sizeInBytes() {
+            return bitSize / 8;
+        }
+
+        /**
+         * 추정 오탐률 = (채워진 비트 비율)^k
+         */
+        double expectedFpp() {
+            return Math.pow((double) setBits.sum() / bitSize, hashCount);
+        }
+
+        /**
+         * FNV-1a 64 + murmur3 finalizer
+         */
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            long h = value;
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
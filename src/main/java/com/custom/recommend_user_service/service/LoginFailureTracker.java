@@ -0,0 +1,131 @@
+package com.custom.recommend_user_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.custom.recommend_user_service.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 실패 횟수 추적 (메모리)
+ *
+ * <p>실패할 때마다 DB를 갱신하지 않고 사용자별 슬라이딩 윈도우로 메모리에서 센다.
+ * 윈도우 내 실패가 최대 횟수에 도달했을 때만 accountLockedUntil 을 DB에 저장한다.
+ * <ul>
+ *   <li>사용자별 윈도우 객체 단위로만 동기화 (전역 락 없음)</li>
+ *   <li>크기 제한 + 마지막 실패 후 윈도우 시간이 지나면 자동 제거</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LoginFailureTracker {
+
+    private final UserRepository userRepository;
+    private final UserCredentialCache userCredentialCache;
+    private final int maxFailures;
+    private final long windowMillis;
+    private final Duration lockDuration;
+    private final Cache<Long, FailureWindow> windows;
+
+    public LoginFailureTracker(
+        final UserRepository userRepository,
+        final UserCredentialCache userCredentialCache,
+        @Value("${security.login.max-failures:5}") final int maxFailures,
+        @Value("${security.login.failure-window-minutes:30}") final long failureWindowMinutes,
+        @Value("${security.login.lock-minutes:60}") final long lockMinutes,
+        @Value("${security.login.tracker-maximum-size:100000}") final long maximumSize
+    ) {
+        this.userRepository = userRepository;
+        this.userCredentialCache = userCredentialCache;
+        this.maxFailures = maxFailures;
+        this.windowMillis = Duration.ofMinutes(failureWindowMinutes).toMillis();
+        this.lockDuration = Duration.ofMinutes(lockMinutes);
+        this.windows = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(Duration.ofMinutes(failureWindowMinutes))
+            .build();
+    }
+
+    /**
+     * 로그인 실패 기록
+     * - 최대 횟수 도달 시 계정 잠금을 DB에 저장하고 윈도우를 비운다.
+     * @param userId 사용자 ID
+     * @param email 이메일 (잠금 시 로그인 캐시 제거용)
+     * @return 윈도우 내 실패 횟수
+     */
+    public int recordFailure(Long userId, String email) {
+        return recordFailure(userId, email, System.currentTimeMillis());
+    }
+
+    /**
+     * 로그인 실패 기록 (실패 시각 지정, 테스트용)
+     */
+    int recordFailure(Long userId, String email, long now) {
+        final FailureWindow window = windows.get(userId, key -> new FailureWindow(maxFailures));
+        final int failCount = window.record(now, windowMillis);
+
+        if (failCount >= maxFailures) {
+            final LocalDateTime lockedAt = LocalDateTime.now();
+            final LocalDateTime lockedUntil = lockedAt.plus(lockDuration);
+            userRepository.lockAccount(userId, lockedUntil, failCount, lockedAt);
+            userCredentialCache.invalidate(email);
+            log.warn("[LoginFailureTracker] 계정 잠금: userId={}, lockedUntil={}", userId, lockedUntil);
+        }
+        return failCount;
+    }
+
+    /**
+     * 로그인 성공 시 실패 기록 제거
+     */
+    public void reset(Long userId) {
+        windows.invalidate(userId);
+    }
+
+    /**
+     * 잠금 기준 실패 횟수
+     */
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    /**
+     * 사용자별 실패 시각 링 버퍼 (최근 maxFailures 건)
+     */
+    private static final class FailureWindow {
+
+        private final long[] failedAt;
+        private int next;
+
+        private FailureWindow(int capacity) {
+            this.failedAt = new long[capacity];
+        }
+
+        /**
+         * 실패 시각 추가 후 윈도우 내 건수 반환, 잠금 기준 도달 시 초기화
+         */
+        synchronized int record(long now, long windowMillis) {
+            failedAt[next] = now;
+            next = (next + 1) % failedAt.length;
+
+            int count = 0;
+            for (final long time : failedAt) {
+                if (time != 0L && now - time < windowMillis) {
+                    count++;
+                }
+            }
+
+            if (count >= failedAt.length) {
+                Arrays.fill(failedAt, 0L);
+                next = 0;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.custom.recommend_user_service.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 성공 처리 지연 쓰기 (write-behind)
+ *
+ * <p>로그인마다 users 행을 갱신하지 않고, 사용자별 마지막 로그인 시각만 메모리에 모았다가
+ * 주기적으로 JDBC batch UPDATE 한 번으로 반영한다. (같은 사용자는 flush 주기당 1회)
+ * <ul>
+ *   <li>flush 주기: {@code security.login.write-behind.flush-interval-millis}</li>
+ *   <li>크기 제한: {@code security.login.write-behind.max-pending} 도달 시 즉시 flush</li>
+ *   <li>종료 시 남은 항목 flush</li>
+ *   <li>메트릭: login.write_behind.pending / flushed / failures, login.write_behind.flush</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LoginSuccessBuffer {
+
+    /**
+     * 로그인 성공 반영
+     * - 잠금 해제/실패 횟수 초기화는 잠금 시간이 이미 지난 경우에만 (flush 전 새로 잠긴 계정 보호)
+     */
+    private static final String UPDATE_SQL = """
+        UPDATE users
+           SET last_login_at = ?,
+               login_fail_count = CASE
+                   WHEN account_locked_until IS NULL OR account_locked_until <= ? THEN 0
+                   ELSE login_fail_count END,
+               account_locked_until = CASE
+                   WHEN account_locked_until <= ? THEN NULL
+                   ELSE account_locked_until END
+         WHERE id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+    private final Timer flushTimer;
+
+    public LoginSuccessBuffer(
+        final JdbcTemplate jdbcTemplate,
+        final MeterRegistry meterRegistry,
+        @Value("${security.login.write-behind.max-pending:50000}") final int maxPending,
+        @Value("${security.login.write-behind.batch-size:500}") final int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        Gauge.builder("login.write_behind.pending", pending, Map::size)
+            .description("반영 대기 중인 로그인 성공 건수 (사용자 단위)")
+            .register(meterRegistry);
+        this.flushedCounter = Counter.builder("login.write_behind.flushed")
+            .description("DB에 반영된 사용자 수")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("login.write_behind.failures")
+            .description("flush 실패 횟수")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("login.write_behind.flush")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 성공 기록 (같은 사용자는 최신 시각 하나로 병합)
+     */
+    public void record(Long userId) {
+        pending.merge(userId, LocalDateTime.now(), (previous, current) -> current.isAfter(previous) ? current : previous);
+
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * 주기적 flush
+     */
+    @Scheduled(fixedDelayString = "${security.login.write-behind.flush-interval-millis:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 대기 항목을 batch UPDATE로 반영 (동시에 하나의 flush만 실행)
+     * @return 반영 시도한 사용자 수
+     */
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            return drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 항목 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            final int flushed = drain();
+            log.info("[LoginSuccessBuffer] 종료 flush: count={}", flushed);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int drain() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        final List<Object[]> rows = new ArrayList<>(pending.size());
+        final List<Map.Entry<Long, LocalDateTime>> drained = new ArrayList<>(pending.size());
+        for (final Long userId : pending.keySet()) {
+            final LocalDateTime lastLoginAt = pending.remove(userId);
+            if (lastLoginAt != null) {
+                final Timestamp timestamp = Timestamp.valueOf(lastLoginAt);
+                rows.add(new Object[] { timestamp, timestamp, timestamp, userId });
+                drained.add(Map.entry(userId, lastLoginAt));
+            }
+        }
+
+        final long startedAt = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows, batchSize, (ps, row) -> {
+                ps.setTimestamp(1, (Timestamp) row[0]);
+                ps.setTimestamp(2, (Timestamp) row[1]);
+                ps.setTimestamp(3, (Timestamp) row[2]);
+                ps.setLong(4, (Long) row[3]);
+            });
+            flushedCounter.increment(rows.size());
+            return rows.size();
+        } catch (final DataAccessException e) {
+            // 실패분은 다시 대기열로 (그 사이 들어온 더 최신 시각 우선)
+            failureCounter.increment();
+            drained.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                (current, previous) -> current.isAfter(previous) ? current : previous));
+            log.error("[LoginSuccessBuffer] flush 실패: count={}", rows.size(), e);
+            return 0;
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
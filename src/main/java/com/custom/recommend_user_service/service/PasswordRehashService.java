@@ -0,0 +1,73 @@
+package com.custom.recommend_user_service.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Service;
+
+import com.custom.recommend_user_service.exception.ExpectedApiException;
+import com.custom.recommend_user_service.repository.UserRepository;
+import com.custom.recommend_user_service.repository.projection.UserCredential;
+import com.custom.recommend_user_service.security.password.PasswordHashingExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 재해시 서비스
+ *
+ * <p>로그인 성공 시 저장된 해시가 현재 설정보다 약하면(strength 낮음, prefix 없음)
+ * 요청 응답과 별개로 해시 전용 스레드에서 재해시하고,
+ * 저장(UPDATE)은 애플리케이션 작업 실행기(applicationTaskExecutor)에서 한다. (해시 스레드가 DB 대기로 묶이지 않도록)
+ */
+@Slf4j
+@Service
+public class PasswordRehashService {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserRepository userRepository;
+    private final UserCredentialCache userCredentialCache;
+    private final Executor taskExecutor;
+
+    public PasswordRehashService(
+        PasswordHashingExecutor passwordHashingExecutor,
+        UserRepository userRepository,
+        UserCredentialCache userCredentialCache,
+        @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor
+    ) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userRepository = userRepository;
+        this.userCredentialCache = userCredentialCache;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * 필요 시 백그라운드 재해시 (과부하면 다음 로그인으로 미룸)
+     * @param credential 로그인 검증 정보 (현재 저장된 해시 포함)
+     * @param rawPassword 검증이 끝난 평문 비밀번호
+     */
+    public void rehashIfNeeded(UserCredential credential, String rawPassword) {
+        final Long userId = credential.id();
+        final String encodedPassword = credential.password();
+        if (!passwordHashingExecutor.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+
+        final CompletableFuture<String> rehash = passwordHashingExecutor.encodeInBackground(rawPassword);
+
+        // 단건 UPDATE는 작업 실행기에서 (해시 풀은 CPU 코어 수 크기)
+        rehash.thenAcceptAsync(newPassword -> {
+            final int updated = userRepository.updatePasswordHash(userId, encodedPassword, newPassword);
+            userCredentialCache.invalidate(credential.email());
+            log.info("[PasswordRehashService] 비밀번호 재해시: userId={}, updated={}", userId, updated);
+        }, taskExecutor).exceptionally(e -> {
+            if (e.getCause() instanceof ExpectedApiException) {
+                log.debug("[PasswordRehashService] 해시 실행기 과부하로 재해시 생략: userId={}", userId);
+            } else {
+                log.warn("[PasswordRehashService] 재해시 실패: userId={}", userId, e);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package com.custom.recommend_user_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.custom.recommend_user_service.dto.response.TokenResponse;
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.enums.Role;
+import com.custom.recommend_user_service.exception.ApiException;
+import com.custom.recommend_user_service.exception.ExpectedApiException;
+import com.custom.recommend_user_service.security.jwt.JwtTokenProvider;
+import com.custom.recommend_user_service.security.jwt.TokenVersionRegistry;
+import com.custom.recommend_user_service.service.RefreshTokenStore.RefreshTokenRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 발급 / 재발급 서비스
+ *
+ * <p>Refresh Token은 JWT가 아닌 임의값(256bit)이며 {@link RefreshTokenStore}에 해시로 저장된다.
+ * 재발급 시 Refresh Token도 새로 발급(회전)하고 이전 토큰은 사용 처리한다.
+ * 재발급 비용은 저장소 조회 1회 + Access Token 서명 1회이다. (비밀번호 해시 없음)
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final String BEARER_TYPE = "Bearer";
+    private static final int TOKEN_BYTES = 32;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final long refreshTokenValidityInSeconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+        final JwtTokenProvider jwtTokenProvider,
+        final RefreshTokenStore refreshTokenStore,
+        final TokenVersionRegistry tokenVersionRegistry,
+        @Value("${jwt.refresh-token-validity-in-seconds}") final long refreshTokenValidityInSeconds
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+    }
+
+    /**
+     * 로그인 시 토큰 발급 (새 family)
+     * @throws ApiException 사용자가 ACTIVE가 아니거나 토큰 버전이 바뀐 경우 (LOGIN_FAILED)
+     */
+    public TokenResponse issue(final Long userId, final Role role, final int tokenVersion) {
+        return issue(userId, role, tokenVersion, UUID.randomUUID().toString(), ErrorCode.LOGIN_FAILED);
+    }
+
+    /**
+     * Refresh Token으로 재발급 (회전)
+     * @param refreshToken 클라이언트가 보관한 Refresh Token
+     * @throws ApiException 없거나 만료/사용/폐기된 토큰, 토큰 버전이 지난 토큰 (INVALID_REFRESH_TOKEN)
+     */
+    public TokenResponse rotate(final String refreshToken) {
+        final RefreshTokenRecord record = refreshTokenStore.consume(hash(refreshToken))
+            .orElseThrow(() -> new ExpectedApiException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        // 비밀번호/상태 변경 이전에 발급된 토큰
+        if (tokenVersionRegistry.isStale(record.userId(), record.tokenVersion())) {
+            log.info("[RefreshTokenService] 토큰 버전 만료: userId={}", record.userId());
+            throw new ExpectedApiException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        return issue(record.userId(), record.role(), record.tokenVersion(), record.familyId(),
+            ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    /**
+     * Refresh Token 폐기 (같은 family 전체)
+     */
+    public void revoke(final String refreshToken) {
+        refreshTokenStore.revoke(hash(refreshToken));
+    }
+
+    /**
+     * @param rejectedCode 사용자가 더 이상 토큰을 받을 수 없을 때의 에러 코드
+     */
+    private TokenResponse issue(
+        final Long userId,
+        final Role role,
+        final int tokenVersion,
+        final String familyId,
+        final ErrorCode rejectedCode
+    ) {
+        final String refreshToken = generateToken();
+
+        final boolean saved = refreshTokenStore.save(hash(refreshToken), new RefreshTokenRecord(
+            familyId,
+            userId,
+            role,
+            tokenVersion,
+            Instant.now().plusSeconds(refreshTokenValidityInSeconds)
+        ));
+        if (!saved) {
+            // 비활성/삭제되었거나 비밀번호/상태가 바뀐 사용자 (다른 노드 변경 포함)
+            log.info("[RefreshTokenService] 토큰 발급 거부: userId={}, tokenVersion={}", userId, tokenVersion);
+            throw new ExpectedApiException(rejectedCode);
+        }
+
+        final String accessToken = jwtTokenProvider.createAccessToken(userId, role.getKey(), tokenVersion);
+
+        return TokenResponse.of(
+            accessToken,
+            refreshToken,
+            BEARER_TYPE,
+            jwtTokenProvider.getAccessTokenValidityInSeconds(),
+            refreshTokenValidityInSeconds
+        );
+    }
+
+    private String generateToken() {
+        final byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 토큰 SHA-256 (저장소 키)
+     */
+    private String hash(final String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
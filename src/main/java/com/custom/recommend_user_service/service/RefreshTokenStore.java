@@ -0,0 +1,177 @@
+package com.custom.recommend_user_service.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.custom.recommend_user_service.enums.Role;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh Token 저장소 (refresh_tokens 테이블)
+ *
+ * <p>토큰 SHA-256 값(PK)으로 조회한다. 원문 토큰은 저장하지 않는다.
+ * <ul>
+ *   <li>INSERT는 users 행이 ACTIVE이고 token_version이 같을 때만 성공한다. (추가 조회 없이 발급 직전 상태 확인)</li>
+ *   <li>회전 시 조회와 사용 처리는 PK 조건부 UPDATE ... RETURNING 한 번이다. (used_at IS NULL, 노드 간 동시 사용 포함)
+ *       1회 사용 보장에 DB 쓰기가 어차피 필요하므로 별도 메모리 조회 단계를 두지 않는다.</li>
+ *   <li>사용된 적 있는 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다.
+ *       이미 폐기된 family(로그아웃 등)의 토큰이나 만료 토큰은 거부만 한다.</li>
+ *   <li>만료 행은 주기적으로 삭제: {@code jwt.refresh-token.cleanup-interval-millis}</li>
+ *   <li>메트릭: jwt.refresh_token.reuse_detected</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    /**
+     * 사용자가 ACTIVE이고 토큰 버전이 같을 때만 저장 (캐시된 로그인 정보가 오래된 경우 발급 차단)
+     */
+    private static final String INSERT_SQL = """
+        INSERT INTO refresh_tokens (token_hash, family_id, user_id, role, token_version, expires_at, created_at)
+        SELECT ?, ?, ?, ?, ?, CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP)
+         WHERE EXISTS (SELECT 1 FROM users WHERE id = ? AND status = 'ACTIVE' AND token_version = ?)
+        """;
+    private static final String CONSUME_SQL = """
+        UPDATE refresh_tokens
+           SET used_at = ?
+         WHERE token_hash = ? AND used_at IS NULL AND revoked_at IS NULL AND expires_at > ?
+        RETURNING family_id, user_id, role, token_version, expires_at
+        """;
+    private static final String SELECT_STATE_SQL =
+        "SELECT family_id, used_at, revoked_at FROM refresh_tokens WHERE token_hash = ?";
+    private static final String REVOKE_FAMILY_SQL =
+        "UPDATE refresh_tokens SET revoked_at = ? WHERE family_id = ? AND revoked_at IS NULL";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM refresh_tokens WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter reuseCounter;
+
+    public RefreshTokenStore(final JdbcTemplate jdbcTemplate, final MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reuseCounter = Counter.builder("jwt.refresh_token.reuse_detected")
+            .description("이미 사용된 Refresh Token 재사용 감지 (family 폐기)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 저장
+     * @param tokenHash 토큰 SHA-256
+     * @return 저장 여부 (사용자가 ACTIVE가 아니거나 토큰 버전이 바뀌었으면 false)
+     */
+    public boolean save(final String tokenHash, final RefreshTokenRecord record) {
+        final int inserted = jdbcTemplate.update(INSERT_SQL,
+            tokenHash,
+            record.familyId(),
+            record.userId(),
+            record.role().name(),
+            record.tokenVersion(),
+            Timestamp.from(record.expiresAt()),
+            Timestamp.from(Instant.now()),
+            record.userId(),
+            record.tokenVersion());
+        return inserted > 0;
+    }
+
+    /**
+     * 토큰 사용 (1회)
+     *
+     * <p>사용 가능한 토큰이면 사용 처리 후 반환한다.
+     * 사용된 적 있는 토큰(폐기 전)이면 같은 family를 모두 폐기하고 empty를 반환한다.
+     */
+    public Optional<RefreshTokenRecord> consume(final String tokenHash) {
+        final Timestamp now = Timestamp.from(Instant.now());
+        final List<RefreshTokenRecord> consumed = jdbcTemplate.query(CONSUME_SQL,
+            (rs, rowNum) -> new RefreshTokenRecord(
+                rs.getString("family_id"),
+                rs.getLong("user_id"),
+                Role.valueOf(rs.getString("role")),
+                rs.getInt("token_version"),
+                rs.getTimestamp("expires_at").toInstant()),
+            now, tokenHash, now);
+        if (!consumed.isEmpty()) {
+            return Optional.of(consumed.get(0));
+        }
+
+        // 사용 불가: 재사용(사용됨, 미폐기)일 때만 family 폐기. 모르는/만료/이미 폐기된 토큰은 거부만
+        final TokenState state = findState(tokenHash);
+        if (state != null && state.used() && !state.revoked()) {
+            revokeFamily(state.familyId());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 토큰이 속한 family 폐기 (로그아웃)
+     */
+    public void revoke(final String tokenHash) {
+        final TokenState state = findState(tokenHash);
+        if (state != null && !state.revoked()) {
+            jdbcTemplate.update(REVOKE_FAMILY_SQL, Timestamp.from(Instant.now()), state.familyId());
+        }
+    }
+
+    /**
+     * 만료 행 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.cleanup-interval-millis:3600000}")
+    public void deleteExpired() {
+        final int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            log.info("[RefreshTokenStore] 만료 토큰 삭제: {}건", deleted);
+        }
+    }
+
+    private TokenState findState(final String tokenHash) {
+        final List<TokenState> rows = jdbcTemplate.query(SELECT_STATE_SQL,
+            (rs, rowNum) -> new TokenState(
+                rs.getString("family_id"),
+                rs.getTimestamp("used_at") != null,
+                rs.getTimestamp("revoked_at") != null),
+            tokenHash);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 재사용 감지: family 전체 폐기
+     */
+    private void revokeFamily(final String familyId) {
+        final int revoked = jdbcTemplate.update(REVOKE_FAMILY_SQL, Timestamp.from(Instant.now()), familyId);
+        reuseCounter.increment();
+        log.warn("[RefreshTokenStore] Refresh Token 재사용 감지, family 폐기: familyId={}, revoked={}",
+            familyId, revoked);
+    }
+
+    private record TokenState(String familyId, boolean used, boolean revoked) {
+    }
+
+    /**
+     * 저장된 Refresh Token 정보
+     *
+     * @param familyId 회전 묶음 ID (최초 로그인 시 생성)
+     * @param userId 사용자 ID
+     * @param role 권한 (재발급 Access Token에 사용)
+     * @param tokenVersion 발급 시점의 사용자 토큰 버전
+     * @param expiresAt 만료 시각
+     */
+    public record RefreshTokenRecord(
+        String familyId,
+        Long userId,
+        Role role,
+        int tokenVersion,
+        Instant expiresAt
+    ) {
+        public boolean isExpired() {
+            return !Instant.now().isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.custom.recommend_user_service.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.custom.recommend_user_service.entity.User;
+import com.custom.recommend_user_service.security.jwt.TokenVersionRegistry;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User 엔티티 변경 시 로그인 캐시 제거 + 토큰 버전 반영
+ *
+ * <p>changePassword / changeStatus / updateProfile 등으로 엔티티가 갱신되면 호출된다.
+ * 커밋 전에 한 번, 커밋 후에 한 번 더 제거해 커밋 사이에 다시 채워진 값도 지운다.
+ * 토큰 버전은 커밋된 경우에만 {@link TokenVersionRegistry}에 반영한다.
+ * (JPQL bulk update 는 엔티티 리스너를 거치지 않으므로 호출한 쪽에서 직접 제거)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    // EntityManagerFactory 생성 시점 순환 참조 방지 (지연 조회)
+    private final ObjectProvider<UserCredentialCache> userCredentialCache;
+    private final ObjectProvider<TokenVersionRegistry> tokenVersionRegistry;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        final String email = user.getEmail();
+        final Long userId = user.getId();
+        final int tokenVersion = user.getTokenVersion();
+        final UserCredentialCache cache = userCredentialCache.getObject();
+        final TokenVersionRegistry registry = tokenVersionRegistry.getObject();
+
+        cache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(email);
+                    if (status == STATUS_COMMITTED) {
+                        registry.advance(userId, tokenVersion);
+                    }
+                }
+            });
+        } else {
+            registry.advance(userId, tokenVersion);
+        }
+    }
+}
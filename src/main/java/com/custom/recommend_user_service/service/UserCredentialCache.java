@@ -0,0 +1,117 @@
+package com.custom.recommend_user_service.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.custom.recommend_user_service.enums.UserStatus;
+import com.custom.recommend_user_service.repository.LoginRepository;
+import com.custom.recommend_user_service.repository.projection.UserCredential;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 검증 정보 캐시 (read-through)
+ *
+ * <p>캐시 적중 시 bcrypt 검증 전까지 DB 조회가 없다.
+ * <ul>
+ *   <li>ACTIVE 계정만 캐싱한다. INACTIVE/DELETED 는 매번 DB에서 확인한다.</li>
+ *   <li>비밀번호/상태/프로필 변경, 계정 잠금 시 명시적으로 제거한다. ({@link UserCacheInvalidationListener})</li>
+ *   <li>다른 노드의 비밀번호/상태 변경, 계정 잠금: token_version_updated_at 기준 증분 조회로 제거
+ *       ({@code security.login.credential-cache.sync-interval-millis}, {@code TokenVersionRegistry}와 같은 방식)</li>
+ *   <li>그 외(프로필)는 TTL({@code security.login.credential-cache.ttl-seconds}) 안에 반영된다.</li>
+ * </ul>
+ * 동기화 전의 오래된 엔트리로 비밀번호 검증을 통과하더라도, 토큰 발급 시 DB에서 상태/토큰 버전을 다시 확인하므로
+ * INACTIVE/DELETED 계정이나 비밀번호가 바뀐 계정에는 토큰이 발급되지 않는다. ({@link RefreshTokenStore#save})
+ */
+@Slf4j
+@Component
+public class UserCredentialCache {
+
+    private static final String CACHE_NAME = "user.credential";
+
+    private static final String SELECT_CHANGED_SQL = "SELECT email FROM users WHERE token_version_updated_at >= ?";
+
+    // 노드 간 시계 차이/커밋 지연 보정 (중복 제거는 무해)
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final LoginRepository loginRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, UserCredential> cache;
+
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.now();
+
+    public UserCredentialCache(
+        final LoginRepository loginRepository,
+        final JdbcTemplate jdbcTemplate,
+        final MeterRegistry meterRegistry,
+        @Value("${security.login.credential-cache.maximum-size:100000}") final long maximumSize,
+        @Value("${security.login.credential-cache.ttl-seconds:60}") final long ttlSeconds
+    ) {
+        this.loginRepository = loginRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 이메일로 로그인 검증 정보 조회 (캐시 → DB)
+     */
+    public Optional<UserCredential> get(String email) {
+        final UserCredential[] notCached = new UserCredential[1];
+
+        // 같은 키에 대한 제거(invalidate)는 로딩이 끝날 때까지 기다리므로 변경 전 값이 남지 않는다.
+        final UserCredential cached = cache.get(email, key -> {
+            final UserCredential loaded = loginRepository.findCredentialByEmail(key).orElse(null);
+            if (loaded != null && loaded.status() != UserStatus.ACTIVE) {
+                notCached[0] = loaded;
+                return null;
+            }
+            return loaded;
+        });
+
+        return Optional.ofNullable(cached != null ? cached : notCached[0]);
+    }
+
+    /**
+     * 캐시 제거
+     */
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 사용자 캐시 제거
+     */
+    @Scheduled(fixedDelayString = "${security.login.credential-cache.sync-interval-millis:5000}")
+    public void sync() {
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            final List<String> emails = jdbcTemplate.queryForList(SELECT_CHANGED_SQL, String.class,
+                Timestamp.valueOf(lastSyncedAt.minus(SYNC_OVERLAP)));
+            cache.invalidateAll(emails);
+            lastSyncedAt = now;
+        } catch (final DataAccessException e) {
+            log.warn("[UserCredentialCache] 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.custom.recommend_user_service.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.custom.recommend_user_service.dto.request.UserImportRequest;
+import com.custom.recommend_user_service.dto.response.UserImportResponse;
+import com.custom.recommend_user_service.dto.response.UserImportResponse.BatchResult;
+import com.custom.recommend_user_service.dto.response.UserImportResponse.RejectedRow;
+import com.custom.recommend_user_service.entity.User;
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.exception.ApiException;
+import com.custom.recommend_user_service.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 대량 등록 (기존 시스템 이관 / 부하 테스트 데이터)
+ *
+ * <p>NDJSON 요청 본문을 한 줄씩 읽어 {@code user.import.batch-size} 단위로 처리한다.
+ * <ol>
+ *   <li>형식/검증 오류, 배치 내 중복, 이미 가입된 이메일은 행 단위로 거부</li>
+ *   <li>평문 비밀번호는 전용 스레드에서 병렬 해시 (로그인용 해시 실행기와 분리)</li>
+ *   <li>배치마다 한 트랜잭션으로 persist → flush (pooled sequence + JDBC batch insert)</li>
+ * </ol>
+ * 배치 저장이 유니크 제약 위반(동시 가입)으로 실패하면 배치를 절반씩 나눠 다시 저장해, 실제로 실패한 행만 거부한다.
+ * (실패 행이 k개면 추가 트랜잭션은 약 2k·log₂(batch-size)개, 해시는 다시 하지 않음)
+ * 그 외 오류(DB 연결 실패 등)는 재시도하지 않고 등록을 중단한다. (응답 메시지에 그때까지 등록된 건수)
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    // 기존 시스템의 bcrypt 해시 ($2a$, $2b$, $2y$)
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService hashExecutor;
+    private final int batchSize;
+    private final int maxRejectedRows;
+
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public UserImportService(
+        final UserRepository userRepository,
+        final PasswordEncoder passwordEncoder,
+        final EmailBloomFilter emailBloomFilter,
+        final ObjectMapper objectMapper,
+        final Validator validator,
+        final PlatformTransactionManager transactionManager,
+        final MeterRegistry meterRegistry,
+        @Value("${user.import.batch-size:500}") final int batchSize,
+        @Value("${user.import.hash-threads:0}") final int hashThreads,
+        @Value("${user.import.max-rejected-rows:1000}") final int maxRejectedRows
+    ) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.emailBloomFilter = emailBloomFilter;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxRejectedRows = maxRejectedRows;
+
+        // 로그인 해시와 CPU를 나눠 쓰도록 기본값은 코어 수의 절반
+        final int threads = hashThreads > 0
+            ? hashThreads
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashExecutor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("user-import-hash-"));
+
+        this.importedCounter = Counter.builder("user.import.rows")
+            .tag("result", "imported")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("user.import.rows")
+            .tag("result", "rejected")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("user.import.batch")
+            .description("대량 등록 배치 처리 시간 (해시 + 저장)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * NDJSON 스트림 등록
+     * @param input 한 줄에 사용자 하나 (UserImportRequest)
+     */
+    public UserImportResponse importUsers(final InputStream input) {
+        final long startedAt = System.nanoTime();
+        final ImportResult result = new ImportResult();
+        final List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.totalRows++;
+
+                final ImportRow row = parse(lineNumber, line, result);
+                if (row == null) {
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    processBatch(batch, result);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.error("[UserImport] 요청 본문 읽기 실패: {}행 처리 후 중단", result.totalRows, e);
+            throw new ApiException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+
+        if (!batch.isEmpty()) {
+            processBatch(batch, result);
+        }
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("[UserImport] 완료: 전체={}, 등록={}, 거부={}, {}ms",
+            result.totalRows, result.importedRows, result.rejectedRows, elapsedMillis);
+
+        return new UserImportResponse(
+            result.totalRows,
+            result.importedRows,
+            result.rejectedRows,
+            elapsedMillis,
+            result.batches,
+            result.rejected
+        );
+    }
+
+    /**
+     * 한 줄 파싱 + 검증 (실패 시 거부 기록 후 null)
+     */
+    private ImportRow parse(final long lineNumber, final String line, final ImportResult result) {
+        final UserImportRequest request;
+        try {
+            request = objectMapper.readValue(line, UserImportRequest.class);
+        } catch (JsonProcessingException e) {
+            result.reject(lineNumber, null, "JSON 형식 오류");
+            return null;
+        }
+
+        final Set<ConstraintViolation<UserImportRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            result.reject(lineNumber, request.email(), violations.iterator().next().getMessage());
+            return null;
+        }
+
+        if (StringUtils.hasText(request.passwordHash())) {
+            if (!BCRYPT_HASH.matcher(request.passwordHash()).matches()) {
+                result.reject(lineNumber, request.email(), "지원하지 않는 비밀번호 해시 형식");
+                return null;
+            }
+        } else if (!StringUtils.hasText(request.password())) {
+            result.reject(lineNumber, request.email(), "password 또는 passwordHash가 필요합니다.");
+            return null;
+        }
+
+        return new ImportRow(lineNumber, request);
+    }
+
+    /**
+     * 배치 처리, 제약 위반 외의 오류는 등록 중단 (이전 배치와 이 배치에서 이미 저장된 행은 유지)
+     */
+    private void processBatch(final List<ImportRow> batch, final ImportResult result) {
+        try {
+            saveBatch(batch, result);
+        } catch (RuntimeException e) {
+            log.error("[UserImport] 저장 오류로 중단: 등록={}, 읽은 행={}", result.importedRows, result.totalRows, e);
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR,
+                String.format("저장 중 오류로 등록을 중단했습니다. (등록 완료: %d건, 읽은 행: %d행)",
+                    result.importedRows, result.totalRows),
+                e);
+        }
+    }
+
+    /**
+     * 배치 저장: 중복 제거 → 병렬 해시 → JDBC batch insert
+     */
+    private void saveBatch(final List<ImportRow> batch, final ImportResult result) {
+        final long startedAt = System.nanoTime();
+        final int rejectedBefore = result.rejectedRows;
+
+        // 1. 배치 내 중복 제거 (먼저 나온 행 우선)
+        final Map<String, ImportRow> rows = new LinkedHashMap<>();
+        for (final ImportRow row : batch) {
+            if (rows.putIfAbsent(row.request().email(), row) != null) {
+                result.reject(row.lineNumber(), row.request().email(), "요청 내 중복 이메일");
+            }
+        }
+
+        // 2. 이미 가입된 이메일 제거 (이전 배치 포함)
+        final Set<String> existing = new HashSet<>(userRepository.findExistingEmails(rows.keySet()));
+        rows.values().removeIf(row -> {
+            if (existing.contains(row.request().email())) {
+                result.reject(row.lineNumber(), row.request().email(), "이미 가입된 이메일");
+                return true;
+            }
+            return false;
+        });
+
+        // 3. 비밀번호 병렬 해시
+        final List<CompletableFuture<HashedRow>> futures = new ArrayList<>(rows.size());
+        for (final ImportRow row : rows.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> new HashedRow(row, encodePassword(row.request())), hashExecutor));
+        }
+        final List<HashedRow> hashed = futures.stream().map(CompletableFuture::join).toList();
+
+        // 4. 배치 저장 (제약 위반 시 나눠서 재시도)
+        final int imported = hashed.isEmpty() ? 0 : save(hashed, result);
+
+        final long elapsedNanos = System.nanoTime() - startedAt;
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        result.batches.add(new BatchResult(
+            result.batches.size() + 1,
+            imported,
+            result.rejectedRows - rejectedBefore,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            elapsedNanos > 0 ? imported * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0
+        ));
+    }
+
+    /**
+     * 한 트랜잭션으로 저장, 제약 위반이면 절반씩 나눠 재귀 저장 (한 행만 남으면 그 행을 거부)
+     * - 롤백된 엔티티는 ID가 할당된 detached 상태이므로 시도마다 새 엔티티를 만든다.
+     * - 제약 위반이 아니면 나누지 않고 그대로 던진다. (DB 장애 시 행마다 타임아웃을 기다리지 않도록)
+     * @return 저장된 행 수
+     */
+    private int save(final List<HashedRow> rows, final ImportResult result) {
+        final List<User> users = rows.stream().map(HashedRow::toUser).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(users));
+        } catch (RuntimeException e) {
+            if (!isConstraintViolation(e)) {
+                throw e;
+            }
+            if (rows.size() == 1) {
+                final ImportRow row = rows.get(0).row();
+                log.warn("[UserImport] {}행 저장 실패: {}", row.lineNumber(), e.getMessage());
+                result.reject(row.lineNumber(), row.request().email(), "이미 가입된 이메일 (동시 가입)");
+                return 0;
+            }
+            log.debug("[UserImport] {}건 저장 실패, 나눠서 재시도: {}", rows.size(), e.getMessage());
+            final int middle = rows.size() / 2;
+            return save(rows.subList(0, middle), result) + save(rows.subList(middle, rows.size()), result);
+        }
+
+        users.forEach(user -> emailBloomFilter.put(user.getEmail()));
+        result.importedRows += users.size();
+        importedCounter.increment(users.size());
+        return users.size();
+    }
+
+    /**
+     * 유니크 제약 위반(그 사이 다른 요청이 가입)인지 확인
+     */
+    private static boolean isConstraintViolation(final RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException
+                || cause instanceof org.hibernate.exception.ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * persist → flush → clear (pooled sequence 라서 ID 조회 없이 batch insert 된다)
+     */
+    private void insert(final List<User> users) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (final User user : users) {
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private String encodePassword(final UserImportRequest request) {
+        return StringUtils.hasText(request.passwordHash())
+            ? BCRYPT_PREFIX + request.passwordHash()
+            : passwordEncoder.encode(request.password());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private record ImportRow(long lineNumber, UserImportRequest request) {}
+
+    /**
+     * 해시가 끝난 행 (저장 재시도 시 다시 해시하지 않음)
+     */
+    private record HashedRow(ImportRow row, String encodedPassword) {
+        private User toUser() {
+            return User.createLocalUser(row.request().email(), encodedPassword, row.request().name());
+        }
+    }
+
+    /**
+     * 요청 단위 집계 (요청 스레드에서만 사용)
+     */
+    private final class ImportResult {
+        private long totalRows;
+        private long importedRows;
+        private int rejectedRows;
+        private final List<BatchResult> batches = new ArrayList<>();
+        private final List<RejectedRow> rejected = new ArrayList<>();
+
+        private void reject(final long lineNumber, final String email, final String reason) {
+            rejectedRows++;
+            rejectedCounter.increment();
+            if (rejected.size() < maxRejectedRows) {
+                rejected.add(new RejectedRow(lineNumber, email, reason));
+            }
+        }
+    }
+}
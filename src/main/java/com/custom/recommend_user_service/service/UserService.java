@@ -1,60 +1,125 @@
 package com.custom.recommend_user_service.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.custom.recommend_user_service.common.StageTimer;
 import com.custom.recommend_user_service.dto.request.SignupRequest;
 import com.custom.recommend_user_service.entity.User;
 import com.custom.recommend_user_service.enums.ErrorCode;
-import com.custom.recommend_user_service.enums.UserStatus;
 import com.custom.recommend_user_service.exception.ApiException;
 import com.custom.recommend_user_service.repository.UserRepository;
+import com.custom.recommend_user_service.security.password.PasswordHashingExecutor;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 회원가입 서비스
+ *
+ * <p>메트릭: auth.signup.duration{outcome}, auth.signup.stage.duration{stage, outcome}
+ * (stage: duplicate_check, hash, insert / outcome: success, password_mismatch, duplicate_email, busy, error)
+ * 커밋 시간은 포함하지 않는다.
+ *
+ * <p>중복 확인과 bcrypt 해시는 트랜잭션 밖에서 실행하고, 저장(saveAndFlush)만 트랜잭션으로 묶는다.
+ * (해시 대기/계산 동안 DB 커넥션을 잡고 있지 않도록)
  */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
 public class UserService {
+
+    private static final String STAGE_DUPLICATE_CHECK = "duplicate_check";
+    private static final String STAGE_HASH = "hash";
+    private static final String STAGE_INSERT = "insert";
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final StageTimer signupTimer;
+
+    public UserService(
+        UserRepository userRepository,
+        PasswordHashingExecutor passwordHashingExecutor,
+        EmailBloomFilter emailBloomFilter,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.emailBloomFilter = emailBloomFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.signupTimer = new StageTimer(meterRegistry, "auth.signup");
+    }
 
     /**
      * 회원가입 요청
      * @param request 회원 요청정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signup(SignupRequest request) {
         
-        // 1. 이메일 중복 체크
-        if (userRepository.existsByEmail(request.email())) {
-            throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS);
-        }
-        
-        // 2. 패스워드 암호화
-        String encodedPassword = passwordEncoder.encode(request.password());
-    
-        // 3. 회원 엔티티 생성
-        User user = User.builder()
-            .email(request.getEmail())
-            .username(request.getUsername())
-            .password(encodedPassword)
-            .name(request.getName())
-            .phoneNumber(request.getPhoneNumber())
-            .role(UserRole.USER)  // 기본 권한
-            .status(UserStatus.ACTIVE)
-            .build();
-        
-        // 5. 회원 저장
-        userRepository.save(user);
+        StageTimer.Recording recording = signupTimer.start();
+        try {
+            // 1. 비밀번호 확인
+            if (!request.isPasswordMatch()) {
+                throw new ApiException(ErrorCode.PASSWORD_NOT_MATCH);
+            }
 
+            // 2. 이메일 중복 체크 (Bloom filter 상 확실히 없으면 조회 생략)
+            recording.begin(STAGE_DUPLICATE_CHECK);
+            if (emailBloomFilter.mightContain(request.email())
+                && userRepository.existsByEmail(request.email())) {
+                throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS);
+            }
+            
+            // 3. 패스워드 암호화 (해시 전용 스레드, 과부하 시 SERVICE_BUSY)
+            recording.begin(STAGE_HASH);
+            String encodedPassword = passwordHashingExecutor.encode(request.password());
+        
+            // 4. 회원 엔티티 생성 (기본 권한 USER, 상태 ACTIVE)
+            User user = User.createLocalUser(
+                request.email(),
+                encodedPassword,
+                request.name()
+            );
+            
+            // 5. 회원 저장 (이 단계만 트랜잭션, 동시 가입은 unique 제약으로 판단)
+            recording.begin(STAGE_INSERT);
+            try {
+                transactionTemplate.executeWithoutResult(status -> userRepository.saveAndFlush(user));
+            } catch (DataIntegrityViolationException e) {
+                throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS, e);
+            }
+            emailBloomFilter.put(user.getEmail());
+            recording.success();
+        } catch (ApiException e) {
+            recording.fail(signupOutcome(e));
+            throw e;
+        } catch (RuntimeException e) {
+            recording.fail(StageTimer.OUTCOME_ERROR);
+            throw e;
+        }
+    }
 
+    /**
+     * 회원가입 실패 outcome 태그
+     */
+    private String signupOutcome(ApiException e) {
+        if (e.getResultCode() == ErrorCode.PASSWORD_NOT_MATCH) {
+            return "password_mismatch";
+        }
+        if (e.getResultCode() == ErrorCode.EMAIL_ALREADY_EXISTS) {
+            return "duplicate_email";
+        }
+        if (e.getResultCode() == ErrorCode.SERVICE_BUSY) {
+            return "busy";
+        }
+        return StageTimer.OUTCOME_ERROR;
     }
 }
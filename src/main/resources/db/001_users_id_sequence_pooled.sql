@@ -0,0 +1,12 @@
+-- users.id : IDENTITY → pooled sequence (User.id allocationSize = 50)
+--
+-- Hibernate pooled optimizer 는 nextval 값을 ID 블록의 상한으로 쓰므로
+-- 시퀀스 INCREMENT BY 가 allocationSize 와 반드시 같아야 한다. (다르면 ID 중복)
+--
+-- serial 컬럼 기준. GENERATED ... AS IDENTITY 컬럼이면 아래 ALTER SEQUENCE 대신
+--   ALTER TABLE users ALTER COLUMN id SET GENERATED BY DEFAULT SET INCREMENT BY 50;
+-- 를 사용한다.
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+
+SELECT setval('users_id_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users));
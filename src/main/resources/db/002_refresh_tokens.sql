@@ -0,0 +1,19 @@
+-- Refresh Token 저장소 (RefreshTokenStore)
+--
+-- 원문 토큰은 저장하지 않고 SHA-256(base64url) 값만 PK로 보관한다.
+-- family_id : 로그인 1회에서 이어지는 회전(rotation) 묶음. 재사용 감지 시 family 전체를 폐기한다.
+-- used_at   : 회전에 사용된 시각 (한 번만 사용 가능)
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_hash  VARCHAR(64)  PRIMARY KEY,
+    family_id   VARCHAR(36)  NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    role        VARCHAR(20)  NOT NULL,
+    expires_at  TIMESTAMP    NOT NULL,
+    used_at     TIMESTAMP,
+    revoked_at  TIMESTAMP,
+    created_at  TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,14 @@
+-- 폐기된 Access Token (TokenRevocationList)
+--
+-- 시작 시 만료 전 행을 메모리로 읽고, 다른 노드의 폐기는 revoked_at 기준으로 주기적으로 가져온다.
+-- 만료된 행은 주기적으로 삭제된다.
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti         VARCHAR(36)  PRIMARY KEY,
+    user_id     BIGINT       NOT NULL,
+    expires_at  TIMESTAMP    NOT NULL,
+    revoked_at  TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
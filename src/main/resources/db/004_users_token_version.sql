@@ -0,0 +1,12 @@
+-- 사용자 토큰 버전 (TokenVersionRegistry)
+--
+-- 비밀번호/상태 변경 시 token_version 이 증가하고, 발급된 토큰의 ver 클레임이 이보다 낮으면 거부된다.
+-- token_version_updated_at : 다른 노드가 증분 조회하는 기준
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version_updated_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_users_token_version_updated_at ON users (token_version_updated_at);
+
+-- Refresh Token 에도 발급 시점 버전을 저장 (재발급 시 확인)
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- 소셜 로그인 upsert 대상 (CustomOAuth2UserService)
+--
+-- INSERT ... ON CONFLICT (provider, provider_id) 는 같은 컬럼의 unique 인덱스가 있어야 한다.
+-- 일반 가입 사용자는 provider/provider_id 가 NULL 이므로 제약에 걸리지 않는다. (NULL 은 서로 다름)
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_provider_provider_id ON users (provider, provider_id);
@@ -0,0 +1,185 @@
+package com.custom.recommend_user_service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인/회원가입 부하 측정 (플랫폼 스레드 vs 가상 스레드 비교용)
+ *
+ * <p>실행 중인 서버에 동시 요청을 보내고 처리량과 지연시간(p50/p99)을 출력한다.
+ * 같은 조건으로 서버를 기본 모드와 virtual-threads 프로필로 각각 띄워 두 번 실행해 비교한다.
+ * (측정 중에는 security.rate-limit.enabled=false 로 요청 제한을 끈다)
+ *
+ * <p>stuffing: 크리덴셜 스터핑 흉내. 없는 이메일(80%)과 준비한 계정의 틀린 비밀번호(20%)로 로그인한다.
+ * 준비한 계정은 곧 잠기므로 응답 대부분이 401 이며, 실패 처리 경로의 비용을 본다.
+ *
+ * <pre>
+ * AuthLoadBenchmark [scenario=login|signup|stuffing] [baseUrl] [concurrency] [durationSeconds] [warmupSeconds]
+ * 예) AuthLoadBenchmark login http://localhost:8080 200 60 15
+ * </pre>
+ */
+public class AuthLoadBenchmark {
+
+    private static final String PASSWORD = "LoadTest!2345";
+
+    public static void main(String[] args) throws Exception {
+        String scenario = args.length > 0 ? args[0] : "login";
+        String baseUrl = args.length > 1 ? args[1] : "http://localhost:8080";
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int durationSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+        int warmupSeconds = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        // 1. 로그인용 계정 준비 (이미 있으면 409)
+        String loginEmail = "load-login@example.com";
+        if ("login".equals(scenario) || "stuffing".equals(scenario)) {
+            send(client, signupRequest(baseUrl, loginEmail));
+        }
+
+        System.out.printf("scenario=%s, baseUrl=%s, concurrency=%d, duration=%ds, warmup=%ds%n",
+            scenario, baseUrl, concurrency, durationSeconds, warmupSeconds);
+
+        // 2. 워밍업 (JIT, 커넥션 풀, 캐시)
+        run(client, scenario, baseUrl, loginEmail, concurrency, warmupSeconds);
+
+        // 3. 측정
+        Result result = run(client, scenario, baseUrl, loginEmail, concurrency, durationSeconds);
+        result.print(durationSeconds);
+    }
+
+    private static Result run(
+        HttpClient client,
+        String scenario,
+        String baseUrl,
+        String loginEmail,
+        int concurrency,
+        int durationSeconds
+    ) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        LongAdder errors = new LongAdder();
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = switch (scenario) {
+                            case "signup" -> signupRequest(baseUrl, "load-" + UUID.randomUUID() + "@example.com");
+                            case "stuffing" -> stuffingRequest(baseUrl, loginEmail);
+                            default -> loginRequest(baseUrl, loginEmail, PASSWORD);
+                        };
+
+                        long start = System.nanoTime();
+                        try {
+                            int status = send(client, request);
+                            statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+                        } catch (Exception e) {
+                            errors.increment();
+                            continue;
+                        }
+
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        List<long[]> perWorker = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            perWorker.add(future.get());
+        }
+        return new Result(merge(perWorker), new TreeMap<>(statusCounts), errors.sum());
+    }
+
+    private static int send(HttpClient client, HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static HttpRequest stuffingRequest(String baseUrl, String knownEmail) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String email = random.nextInt(10) < 8
+            ? "stuffing-" + random.nextInt(1_000_000) + "@example.com"
+            : knownEmail;
+        return loginRequest(baseUrl, email, "Wrong!" + random.nextInt(1_000_000));
+    }
+
+    private static HttpRequest loginRequest(String baseUrl, String email, String password) {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        // AuthController.login 은 GET + 본문
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .method("GET", HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static HttpRequest signupRequest(String baseUrl, String email) {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD
+            + "\",\"passwordConfirm\":\"" + PASSWORD + "\",\"name\":\"부하테스트\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/signup"))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static long[] merge(List<long[]> perWorker) {
+        int total = perWorker.stream().mapToInt(latencies -> latencies.length).sum();
+        long[] merged = new long[total];
+        int offset = 0;
+        for (long[] latencies : perWorker) {
+            System.arraycopy(latencies, 0, merged, offset, latencies.length);
+            offset += latencies.length;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private record Result(long[] sortedLatencies, Map<Integer, LongAdder> statusCounts, long errors) {
+
+        void print(int durationSeconds) {
+            int count = sortedLatencies.length;
+            System.out.printf("requests=%d, throughput=%.1f req/s, errors=%d%n",
+                count, count / (double) durationSeconds, errors);
+            System.out.printf("latency ms: p50=%.1f, p90=%.1f, p99=%.1f, max=%.1f%n",
+                percentile(0.50), percentile(0.90), percentile(0.99), percentile(1.0));
+            statusCounts.forEach((status, counter) -> System.out.printf("  status %d: %d%n", status, counter.sum()));
+        }
+
+        double percentile(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.custom.recommend_user_service.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 시간 순 트랜잭션 ID: 형식 / 시각 순서 / 짧게 사는 스레드가 많아도 유일
+ */
+class TimeOrderedTransactionIdGeneratorTest {
+
+    private final TimeOrderedTransactionIdGenerator generator = new TimeOrderedTransactionIdGenerator();
+
+    @Test
+    void UUID_v7_형식이고_상위_48비트는_현재_시각이다() {
+        final long before = System.currentTimeMillis();
+
+        final UUID id = generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void 시각_부분은_감소하지_않는다() {
+        long previous = generator.next().getMostSignificantBits() >>> 16;
+        for (int i = 0; i < 100_000; i++) {
+            final long current = generator.next().getMostSignificantBits() >>> 16;
+            assertThat(current).isGreaterThanOrEqualTo(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    void 짧게_사는_스레드가_많아도_ID가_겹치지_않는다() throws Exception {
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        final int threads = 50_000;
+        final int perThread = 20;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.generate());
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,100 @@
+package com.custom.recommend_user_service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.custom.recommend_user_service.config.ConnectionLimitingDataSource.ConnectionLimitExceededException;
+
+/**
+ * 커넥션 동시 사용 제한: permit 반납 / 대기 한도 초과 즉시 거부 / 대기 시간 초과
+ */
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    void close하면_permit을_반납한다() throws Exception {
+        final ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 0, 1000);
+
+        final Connection connection = dataSource.getConnection();
+        assertThat(dataSource.getActive()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getActive()).isZero();
+        dataSource.getConnection().close();
+    }
+
+    @Test
+    void 대기_한도를_넘으면_기다리지_않고_거부한다() throws Exception {
+        final ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 0, 60_000);
+        dataSource.getConnection();
+
+        final long start = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(ConnectionLimitExceededException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        assertThat(dataSource.getRejected()).isEqualTo(1);
+        assertThat(dataSource.getWaiting()).isZero();
+    }
+
+    @Test
+    void 대기_중_permit을_얻지_못하면_시간_초과로_거부한다() throws Exception {
+        final ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 1, 50);
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(ConnectionLimitExceededException.class);
+
+        assertThat(dataSource.getRejected()).isEqualTo(1);
+        assertThat(dataSource.getWaiting()).isZero();
+    }
+
+    @Test
+    void 대기_중인_스레드는_반납된_permit을_받는다() throws Exception {
+        final ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 1, 10_000);
+        final Connection first = dataSource.getConnection();
+        final CountDownLatch started = new CountDownLatch(1);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Connection> waiter = executor.submit(() -> {
+                started.countDown();
+                return dataSource.getConnection();
+            });
+            started.await();
+            while (dataSource.getWaiting() == 0 && !waiter.isDone()) {
+                Thread.onSpinWait();
+            }
+
+            // 대기 자리가 찼으므로 다음 요청은 즉시 거부
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(ConnectionLimitExceededException.class);
+
+            first.close();
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(dataSource.getActive()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.custom.recommend_user_service.security.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import com.custom.recommend_user_service.config.RateLimitProperties;
+import com.custom.recommend_user_service.exception.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 제한 필터: GCRA 버스트 / Retry-After / 이메일 기준 / 본문 크기 제한
+ */
+class RateLimitFilterTest {
+
+    private static final String LOGIN = "/api/auth/login";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 분당 6회 (10초 간격), 버스트 2
+        final RateLimitProperties.Limit limit = new RateLimitProperties.Limit(6, Duration.ofMinutes(1), 2);
+        final RateLimitProperties properties = new RateLimitProperties(
+            true, 1000, Duration.ofMinutes(10), DataSize.ofBytes(64),
+            List.of(new RateLimitProperties.Route(LOGIN, limit, limit))
+        );
+        final ObjectMapper objectMapper = new ObjectMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, objectMapper, new ErrorResponseWriter(objectMapper), meterRegistry);
+    }
+
+    @Test
+    void 버스트까지_허용하고_다음_요청은_Retry_After와_함께_거부한다() throws Exception {
+        assertThat(send(login("10.0.0.1", "a@test.com")).getStatus()).isEqualTo(200);
+        assertThat(send(login("10.0.0.1", "b@test.com")).getStatus()).isEqualTo(200);
+
+        final MockHttpServletResponse rejected = send(login("10.0.0.1", "c@test.com"));
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        assertThat(rejectedCount("ip")).isEqualTo(1.0);
+    }
+
+    @Test
+    void 이메일_기준_제한은_IP가_달라도_적용된다() throws Exception {
+        assertThat(send(login("10.0.0.1", "user@test.com")).getStatus()).isEqualTo(200);
+        assertThat(send(login("10.0.0.2", " USER@test.com")).getStatus()).isEqualTo(200);
+
+        final MockHttpServletResponse rejected = send(login("10.0.0.3", "user@test.com"));
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        assertThat(rejectedCount("email")).isEqualTo(1.0);
+    }
+
+    @Test
+    void 등록되지_않은_경로는_검사하지_않는다() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+            request.setRemoteAddr("10.0.0.1");
+            assertThat(send(request).getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void 본문은_컨트롤러에서_다시_읽을_수_있다() throws Exception {
+        final MockHttpServletRequest request = login("10.0.0.1", "a@test.com");
+        final MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        final HttpServletRequest passed = (HttpServletRequest) chain.getRequest();
+        assertThat(new String(passed.getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"email\":\"a@test.com\"}");
+    }
+
+    @Test
+    void Content_Length가_한도를_넘으면_본문을_읽지_않고_413() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN);
+        request.setRemoteAddr("10.0.0.1");
+        request.setContent(new byte[65]);
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(rejectedCount("body_size")).isEqualTo(1.0);
+    }
+
+    @Test
+    void Content_Length가_없어도_한도를_넘게_읽히면_413() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setRemoteAddr("10.0.0.1");
+        request.setContent(new byte[1024]);
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private MockHttpServletRequest login(final String ip, final String email) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletResponse send(final MockHttpServletRequest request) throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private double rejectedCount(final String keyType) {
+        return meterRegistry.get("security.rate_limit.rejected")
+            .tag("route", LOGIN)
+            .tag("key", keyType)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,101 @@
+package com.custom.recommend_user_service.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Access Token 폐기 목록: 폐기 / 다른 노드 반영 / 만료 제거
+ */
+class TokenRevocationListTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        revocationList = new TokenRevocationList(jdbcTemplate, meterRegistry);
+    }
+
+    @Test
+    void 폐기된_토큰은_만료될_때까지_거부한다() {
+        revocationList.revoke(token("jti-1", Instant.now().plusSeconds(60)));
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(revocationList.isRevoked("jti-2")).isFalse();
+        verify(jdbcTemplate).update(contains("INSERT INTO revoked_tokens"), eq("jti-1"), eq(1L), any(), any());
+    }
+
+    @Test
+    void jti가_없는_토큰은_저장하지_않는다() {
+        revocationList.revoke(token(null, Instant.now().plusSeconds(60)));
+
+        assertThat(revocationList.isRevoked(null)).isFalse();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void 동기화_때_만료된_항목을_지운다() {
+        revocationList.revoke(token("expired", Instant.now().minusSeconds(1)));
+        revocationList.revoke(token("active", Instant.now().plusSeconds(60)));
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked("expired")).isFalse();
+        assertThat(revocationList.isRevoked("active")).isTrue();
+        assertThat(meterRegistry.get("jwt.revocation.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 다른_노드에서_폐기한_토큰을_동기화로_받는다() throws Exception {
+        final ResultSet row = mock(ResultSet.class);
+        when(row.getString("jti")).thenReturn("remote");
+        when(row.getTimestamp("expires_at")).thenReturn(Timestamp.from(Instant.now().plusSeconds(60)));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(contains("revoked_at >="), any(RowCallbackHandler.class), any(Object[].class));
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked("remote")).isTrue();
+    }
+
+    @Test
+    void 동기화가_실패해도_만료된_항목은_지운다() {
+        revocationList.revoke(token("expired", Instant.now().minusSeconds(1)));
+        doThrow(new QueryTimeoutException("timeout"))
+            .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked("expired")).isFalse();
+    }
+
+    private static VerifiedToken token(final String tokenId, final Instant expiresAt) {
+        return new VerifiedToken(tokenId, 1L, "ROLE_USER", VerifiedToken.TYPE_ACCESS, 0, expiresAt);
+    }
+}
@@ -0,0 +1,141 @@
+package com.custom.recommend_user_service.security.oauth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 인가 요청 쿠키: AES-GCM 왕복 / state 불일치 / 변조 / 다른 키 / 만료 / 삭제
+ */
+class CookieAuthorizationRequestRepositoryTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret";
+    private static final String STATE = "state-1";
+
+    private final CookieAuthorizationRequestRepository repository =
+        new CookieAuthorizationRequestRepository(SECRET, Duration.ofMinutes(3), true);
+
+    @Test
+    void 저장한_인가_요청을_그대로_복원한다() {
+        final OAuth2AuthorizationRequest saved = authorizationRequest();
+        final String cookie = save(repository, saved);
+
+        final OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(callback(cookie, STATE));
+
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getState()).isEqualTo(STATE);
+        assertThat(loaded.getAuthorizationUri()).isEqualTo(saved.getAuthorizationUri());
+        assertThat(loaded.getClientId()).isEqualTo(saved.getClientId());
+        assertThat(loaded.getRedirectUri()).isEqualTo(saved.getRedirectUri());
+        assertThat(loaded.getScopes()).containsExactlyInAnyOrderElementsOf(saved.getScopes());
+        assertThat(loaded.getAuthorizationRequestUri()).isEqualTo(saved.getAuthorizationRequestUri());
+        assertThat(loaded.getAdditionalParameters()).containsEntry("nonce", "nonce-1");
+        assertThat(loaded.<String>getAttribute("registration_id")).isEqualTo("google");
+        assertThat(loaded.<String>getAttribute("code_verifier")).isEqualTo("verifier-1");
+    }
+
+    @Test
+    void 쿠키는_HttpOnly_Secure_SameSite_Lax() {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+            .contains("HttpOnly")
+            .contains("Secure")
+            .contains("SameSite=Lax")
+            .contains("Path=/api/oauth2");
+    }
+
+    @Test
+    void state가_다르면_없는_것으로_본다() {
+        final String cookie = save(repository, authorizationRequest());
+
+        assertThat(repository.loadAuthorizationRequest(callback(cookie, "other-state"))).isNull();
+        assertThat(repository.loadAuthorizationRequest(callback(cookie, null))).isNull();
+    }
+
+    @Test
+    void 변조된_쿠키는_거부한다() {
+        final String cookie = save(repository, authorizationRequest());
+        final int index = cookie.length() / 2;
+        final char flipped = cookie.charAt(index) == 'A' ? 'B' : 'A';
+        final String tampered = cookie.substring(0, index) + flipped + cookie.substring(index + 1);
+
+        assertThat(repository.loadAuthorizationRequest(callback(tampered, STATE))).isNull();
+        assertThat(repository.loadAuthorizationRequest(callback(cookie.substring(0, 10), STATE))).isNull();
+        assertThat(repository.loadAuthorizationRequest(callback("not base64!", STATE))).isNull();
+    }
+
+    @Test
+    void 다른_키로_만든_쿠키는_거부한다() {
+        final CookieAuthorizationRequestRepository other =
+            new CookieAuthorizationRequestRepository("another-secret-another-secret", Duration.ofMinutes(3), true);
+        final String cookie = save(other, authorizationRequest());
+
+        assertThat(repository.loadAuthorizationRequest(callback(cookie, STATE))).isNull();
+    }
+
+    @Test
+    void 만료된_쿠키는_거부한다() {
+        final CookieAuthorizationRequestRepository expired =
+            new CookieAuthorizationRequestRepository(SECRET, Duration.ofSeconds(-5), true);
+        final String cookie = save(expired, authorizationRequest());
+
+        assertThat(repository.loadAuthorizationRequest(callback(cookie, STATE))).isNull();
+    }
+
+    @Test
+    void remove는_인가_요청을_반환하고_쿠키를_지운다() {
+        final String cookie = save(repository, authorizationRequest());
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        final OAuth2AuthorizationRequest removed = repository.removeAuthorizationRequest(callback(cookie, STATE), response);
+
+        assertThat(removed).isNotNull();
+        assertThat(response.getCookie(CookieAuthorizationRequestRepository.COOKIE_NAME).getMaxAge()).isZero();
+    }
+
+    private static String save(
+        final CookieAuthorizationRequestRepository repository,
+        final OAuth2AuthorizationRequest authorizationRequest
+    ) {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+        return response.getCookie(CookieAuthorizationRequestRepository.COOKIE_NAME).getValue();
+    }
+
+    private static MockHttpServletRequest callback(final String cookieValue, final String state) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/oauth2/callback/google");
+        request.setCookies(new Cookie(CookieAuthorizationRequestRepository.COOKIE_NAME, cookieValue));
+        if (state != null) {
+            request.setParameter(OAuth2ParameterNames.STATE, state);
+        }
+        return request;
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+            .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+            .clientId("client-id")
+            .redirectUri("https://app.example.com/api/oauth2/callback/google")
+            .state(STATE)
+            .scopes(Set.of("openid", "email", "profile"))
+            .additionalParameters(Map.of("nonce", "nonce-1"))
+            .attributes(attributes -> {
+                attributes.put("registration_id", "google");
+                attributes.put("code_verifier", "verifier-1");
+            })
+            .build();
+    }
+}
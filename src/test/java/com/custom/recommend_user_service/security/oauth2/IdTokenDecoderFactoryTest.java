@@ -0,0 +1,273 @@
+package com.custom.recommend_user_service.security.oauth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ID 토큰 검증 + 제공자 JWKS 캐시
+ *
+ * <p>로컬 HttpServer를 제공자 JWKS 엔드포인트 대신 사용하고, 조회 횟수로 제공자 호출 여부를 확인한다.
+ */
+class IdTokenDecoderFactoryTest {
+
+    private static final String ISSUER = "https://accounts.google.com";
+    private static final String CLIENT_ID = "test-client";
+
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private volatile String jwksBody;
+    private volatile int jwksStatus = 200;
+    private HttpServer keyServer;
+
+    @BeforeEach
+    void startKeyServer() throws IOException {
+        keyServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        keyServer.createContext("/jwks", exchange -> {
+            jwksRequests.incrementAndGet();
+            final byte[] body = jwksBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(jwksStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        keyServer.start();
+    }
+
+    @AfterEach
+    void stopKeyServer() {
+        keyServer.stop(0);
+    }
+
+    @Test
+    void ID_토큰을_검증하고_공개키는_한_번만_조회한다() throws Exception {
+        final KeyPair key = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", key));
+        final JwtDecoder decoder = decoderFactory(Duration.ZERO).createDecoder(registration());
+
+        final Jwt first = decoder.decode(idToken("key-1", key, CLIENT_ID));
+        final Jwt second = decoder.decode(idToken("key-1", key, CLIENT_ID));
+
+        assertThat(first.getSubject()).isEqualTo("1234567890");
+        assertThat(first.getClaimAsString("email")).isEqualTo("user@example.com");
+        assertThat(first.getAudience()).containsExactly(CLIENT_ID);
+        assertThat(first.getExpiresAt()).isAfter(Instant.now());
+        assertThat(second.getSubject()).isEqualTo("1234567890");
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    void 제공자가_키를_교체하면_다시_조회한다() throws Exception {
+        final KeyPair oldKey = rsaKeyPair();
+        final KeyPair newKey = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", oldKey));
+        final JwtDecoder decoder = decoderFactory(Duration.ZERO).createDecoder(registration());
+
+        decoder.decode(idToken("key-1", oldKey, CLIENT_ID));
+        jwksBody = jwks(jwk("key-1", oldKey), jwk("key-2", newKey));
+        final Jwt rotated = decoder.decode(idToken("key-2", newKey, CLIENT_ID));
+        decoder.decode(idToken("key-2", newKey, CLIENT_ID));
+
+        assertThat(rotated.getHeaders()).containsEntry("kid", "key-2");
+        assertThat(jwksRequests).hasValue(2);
+    }
+
+    @Test
+    void 모르는_kid로는_최소_간격_안에서_다시_조회하지_않는다() throws Exception {
+        final KeyPair key = rsaKeyPair();
+        final KeyPair unknown = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", key));
+        final JwtDecoder decoder = decoderFactory(Duration.ofMinutes(1)).createDecoder(registration());
+
+        decoder.decode(idToken("key-1", key, CLIENT_ID));
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> decoder.decode(idToken("key-x", unknown, CLIENT_ID)))
+                .isInstanceOf(BadJwtException.class);
+        }
+
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    void 조회_실패_후에는_최소_간격이_아니라_실패_대기_뒤에_다시_조회한다() throws Exception {
+        final KeyPair key = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", key));
+        jwksStatus = 500;
+        final JwtDecoder decoder = decoderFactory(Duration.ofMinutes(1), Duration.ZERO).createDecoder(registration());
+
+        assertThatThrownBy(() -> decoder.decode(idToken("key-1", key, CLIENT_ID)))
+            .isInstanceOf(BadJwtException.class);
+
+        // 제공자 복구: 실패는 최소 간격(1분)을 소모하지 않는다
+        jwksStatus = 200;
+        assertThat(decoder.decode(idToken("key-1", key, CLIENT_ID)).getSubject()).isEqualTo("1234567890");
+        assertThat(jwksRequests).hasValue(2);
+    }
+
+    @Test
+    void 조회_실패가_이어지는_동안에는_실패_대기_안에서_다시_조회하지_않는다() throws Exception {
+        final KeyPair key = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", key));
+        jwksStatus = 500;
+        final JwtDecoder decoder = decoderFactory(Duration.ZERO, Duration.ofMinutes(1)).createDecoder(registration());
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> decoder.decode(idToken("key-1", key, CLIENT_ID)))
+                .isInstanceOf(BadJwtException.class);
+        }
+
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    void 동시에_처음_조회해도_제공자는_한_번만_부른다() throws Exception {
+        final KeyPair key = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", key));
+        final JwtDecoder decoder = decoderFactory(Duration.ofMinutes(1)).createDecoder(registration());
+        final String token = idToken("key-1", key, CLIENT_ID);
+        final int requests = 50;
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<Jwt>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return decoder.decode(token);
+                }));
+            }
+            start.countDown();
+            for (final Future<Jwt> future : futures) {
+                assertThat(future.get().getSubject()).isEqualTo("1234567890");
+            }
+        }
+
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    void 다른_클라이언트용_토큰은_거부한다() throws Exception {
+        final KeyPair key = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", key));
+        final JwtDecoder decoder = decoderFactory(Duration.ZERO).createDecoder(registration());
+
+        assertThatThrownBy(() -> decoder.decode(idToken("key-1", key, "other-client")))
+            .isInstanceOf(BadJwtException.class);
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_거부한다() throws Exception {
+        final KeyPair published = rsaKeyPair();
+        final KeyPair attacker = rsaKeyPair();
+        jwksBody = jwks(jwk("key-1", published));
+        final JwtDecoder decoder = decoderFactory(Duration.ZERO).createDecoder(registration());
+
+        assertThatThrownBy(() -> decoder.decode(idToken("key-1", attacker, CLIENT_ID)))
+            .isInstanceOf(BadJwtException.class);
+    }
+
+    private IdTokenDecoderFactory decoderFactory(final Duration minRefreshInterval) {
+        return decoderFactory(minRefreshInterval, Duration.ofSeconds(5));
+    }
+
+    private IdTokenDecoderFactory decoderFactory(final Duration minRefreshInterval, final Duration failureBackoff) {
+        final ProviderJwksCache cache = new ProviderJwksCache(
+            new ObjectMapper(),
+            new SimpleMeterRegistry(),
+            Duration.ofSeconds(3),
+            minRefreshInterval,
+            failureBackoff
+        );
+        return new IdTokenDecoderFactory(cache);
+    }
+
+    private ClientRegistration registration() {
+        return ClientRegistration.withRegistrationId("google")
+            .clientId(CLIENT_ID)
+            .clientSecret("secret")
+            .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+            .redirectUri("{baseUrl}/api/oauth2/callback/{registrationId}")
+            .scope("openid", "email", "profile")
+            .authorizationUri("http://127.0.0.1/authorize")
+            .tokenUri("http://127.0.0.1/token")
+            .jwkSetUri("http://127.0.0.1:" + keyServer.getAddress().getPort() + "/jwks")
+            .issuerUri(ISSUER)
+            .userNameAttributeName("sub")
+            .build();
+    }
+
+    private static String idToken(final String kid, final KeyPair key, final String audience) {
+        final Instant now = Instant.now();
+        return Jwts.builder()
+            .header().keyId(kid).and()
+            .issuer("accounts.google.com")
+            .audience().add(audience).and()
+            .subject("1234567890")
+            .claim("email", "user@example.com")
+            .claim("name", "테스트")
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plusSeconds(300)))
+            .signWith(key.getPrivate())
+            .compact();
+    }
+
+    private static KeyPair rsaKeyPair() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static String jwks(final String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String jwk(final String kid, final KeyPair key) {
+        final RSAPublicKey publicKey = (RSAPublicKey) key.getPublic();
+        return "{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"" + kid + "\""
+            + ",\"n\":\"" + base64Url(publicKey.getModulus()) + "\""
+            + ",\"e\":\"" + base64Url(publicKey.getPublicExponent()) + "\"}";
+    }
+
+    private static String base64Url(final BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
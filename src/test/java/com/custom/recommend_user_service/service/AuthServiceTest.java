@@ -0,0 +1,202 @@
+package com.custom.recommend_user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.custom.recommend_user_service.dto.request.LoginRequest;
+import com.custom.recommend_user_service.dto.response.TokenResponse;
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.enums.Provider;
+import com.custom.recommend_user_service.enums.Role;
+import com.custom.recommend_user_service.enums.UserStatus;
+import com.custom.recommend_user_service.exception.ApiException;
+import com.custom.recommend_user_service.exception.ExpectedApiException;
+import com.custom.recommend_user_service.repository.projection.UserCredential;
+import com.custom.recommend_user_service.security.jwt.TokenRevocationList;
+import com.custom.recommend_user_service.security.password.PasswordHashingExecutor;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인: 단계 순서 / outcome 태그 (Javadoc에 나열한 값이 모두 나오는지)
+ */
+class AuthServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String PASSWORD = "Password!234";
+    private static final String HASH = "{bcrypt}hash";
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private UserCredentialCache userCredentialCache;
+    private RefreshTokenService refreshTokenService;
+    private LoginFailureTracker loginFailureTracker;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingExecutor = mock(PasswordHashingExecutor.class);
+        userCredentialCache = mock(UserCredentialCache.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        loginFailureTracker = mock(LoginFailureTracker.class);
+        meterRegistry = new SimpleMeterRegistry();
+        authService = new AuthService(
+            passwordHashingExecutor,
+            userCredentialCache,
+            refreshTokenService,
+            mock(TokenRevocationList.class),
+            mock(PasswordRehashService.class),
+            loginFailureTracker,
+            mock(LoginSuccessBuffer.class),
+            meterRegistry
+        );
+
+        when(passwordHashingExecutor.matches(PASSWORD, HASH)).thenReturn(true);
+        when(loginFailureTracker.getMaxFailures()).thenReturn(5);
+        when(refreshTokenService.issue(anyLong(), any(), anyInt()))
+            .thenReturn(TokenResponse.of("access-token", "refresh-token", "Bearer", 900L, 3600L));
+    }
+
+    @Test
+    void 성공() {
+        givenUser(user(UserStatus.ACTIVE, null, null));
+
+        assertThat(authService.login(new LoginRequest(EMAIL, PASSWORD)).accessToken()).isEqualTo("access-token");
+
+        assertOutcome("success");
+    }
+
+    @Test
+    void 없는_이메일() {
+        when(userCredentialCache.get(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, PASSWORD)))
+            .isInstanceOf(ApiException.class);
+
+        assertOutcome("unknown_email");
+    }
+
+    @Test
+    void OAuth_사용자는_해시_비교와_실패_집계_없이_거부한다() {
+        final UserCredential oauthUser = new UserCredential(
+            1L, EMAIL, null, "name", null, Role.USER, UserStatus.ACTIVE, Provider.GOOGLE, null, 0);
+        givenUser(oauthUser);
+
+        // 없는 이메일과 같은 응답 (가입 경로 노출 없음)
+        assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, PASSWORD)))
+            .isInstanceOfSatisfying(ApiException.class, e -> {
+                assertThat(e.getResultCode()).isEqualTo(ErrorCode.LOGIN_FAILED);
+                assertThat(e.getMessage()).isEqualTo(ErrorCode.LOGIN_FAILED.getMessage());
+            });
+
+        verify(passwordHashingExecutor, never()).matches(anyString(), any());
+        verify(loginFailureTracker, never()).recordFailure(anyLong(), anyString());
+        assertOutcome("oauth_user");
+    }
+
+    @Test
+    void 비밀번호_불일치() {
+        givenUser(user(UserStatus.ACTIVE, null, null));
+        when(loginFailureTracker.recordFailure(1L, EMAIL)).thenReturn(1);
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, "wrong")))
+            .isInstanceOf(ApiException.class);
+
+        verify(loginFailureTracker).recordFailure(1L, EMAIL);
+        assertOutcome("bad_password");
+    }
+
+    @Test
+    void 잠긴_계정() {
+        givenUser(user(UserStatus.ACTIVE, null, LocalDateTime.now().plusMinutes(10)));
+
+        assertLoginFails(ErrorCode.ACCOUNT_LOCKED);
+
+        assertOutcome("locked");
+    }
+
+    @Test
+    void 비활성_계정() {
+        givenUser(user(UserStatus.INACTIVE, null, null));
+
+        assertLoginFails(ErrorCode.ACCOUNT_INACTIVE);
+
+        assertOutcome("inactive");
+    }
+
+    @Test
+    void 탈퇴_계정() {
+        givenUser(user(UserStatus.DELETED, null, null));
+
+        assertLoginFails(ErrorCode.ACCOUNT_DELETED);
+
+        assertOutcome("deleted");
+    }
+
+    @Test
+    void 발급_시점에_거부되면_캐시를_비운다() {
+        givenUser(user(UserStatus.ACTIVE, null, null));
+        when(refreshTokenService.issue(anyLong(), any(), anyInt()))
+            .thenThrow(new ExpectedApiException(ErrorCode.LOGIN_FAILED));
+
+        assertLoginFails(ErrorCode.LOGIN_FAILED);
+
+        verify(userCredentialCache).invalidate(EMAIL);
+        assertOutcome("stale_credential");
+    }
+
+    @Test
+    void 해시_스레드_과부하() {
+        givenUser(user(UserStatus.ACTIVE, null, null));
+        when(passwordHashingExecutor.matches(PASSWORD, HASH)).thenThrow(new ExpectedApiException(ErrorCode.SERVICE_BUSY));
+
+        assertLoginFails(ErrorCode.SERVICE_BUSY);
+
+        verify(loginFailureTracker, never()).recordFailure(anyLong(), anyString());
+        assertOutcome("busy");
+    }
+
+    @Test
+    void 예상하지_못한_예외() {
+        when(userCredentialCache.get(EMAIL)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, PASSWORD)))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertOutcome("error");
+    }
+
+    private void givenUser(final UserCredential user) {
+        when(userCredentialCache.get(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    private UserCredential user(final UserStatus status, final Provider provider, final LocalDateTime lockedUntil) {
+        return new UserCredential(1L, EMAIL, HASH, "name", null, Role.USER, status, provider, lockedUntil, 0);
+    }
+
+    private void assertLoginFails(final ErrorCode errorCode) {
+        assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, PASSWORD)))
+            .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.getResultCode()).isEqualTo(errorCode));
+    }
+
+    private void assertOutcome(final String outcome) {
+        final Timer timer = meterRegistry.find("auth.login.duration").tag("outcome", outcome).timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
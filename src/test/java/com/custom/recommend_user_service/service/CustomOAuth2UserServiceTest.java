@@ -0,0 +1,107 @@
+package com.custom.recommend_user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.enums.Provider;
+import com.custom.recommend_user_service.security.oauth2.OAuth2UserPrincipal;
+
+/**
+ * 소셜 로그인 upsert: 재방문은 UPDATE 만 (시퀀스 미사용), 첫 로그인만 INSERT
+ */
+class CustomOAuth2UserServiceTest {
+
+    private static final Map<String, Object> ATTRIBUTES = Map.of(
+        "sub", "google-123",
+        "email", "user@test.com",
+        "name", "사용자",
+        "picture", "https://example.com/p.png"
+    );
+
+    private JdbcTemplate jdbcTemplate;
+    private CustomOAuth2UserService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new CustomOAuth2UserService(jdbcTemplate);
+    }
+
+    @Test
+    void 재방문이면_UPDATE_만_실행하고_INSERT_하지_않는다() {
+        when(jdbcTemplate.query(contains("UPDATE users"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(invocation -> List.of(mapRow(invocation, "ACTIVE")));
+
+        final OAuth2UserPrincipal principal = service.upsert(Provider.GOOGLE, ATTRIBUTES, null);
+
+        assertThat(principal.userId()).isEqualTo(10L);
+        verify(jdbcTemplate, never()).queryForObject(contains("INSERT INTO users"), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    void 갱신된_행이_없으면_가입한다() {
+        when(jdbcTemplate.query(contains("UPDATE users"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(contains("INSERT INTO users"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(invocation -> mapRow(invocation, "ACTIVE"));
+
+        final OAuth2UserPrincipal principal = service.upsert(Provider.GOOGLE, ATTRIBUTES, null);
+
+        assertThat(principal.userId()).isEqualTo(10L);
+    }
+
+    @Test
+    void 같은_이메일의_다른_계정이_있으면_거부한다() {
+        when(jdbcTemplate.query(contains("UPDATE users"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(contains("INSERT INTO users"), any(RowMapper.class), any(Object[].class)))
+            .thenThrow(new DuplicateKeyException("users_email_key"));
+
+        assertThatThrownBy(() -> service.upsert(Provider.GOOGLE, ATTRIBUTES, null))
+            .isInstanceOfSatisfying(OAuth2AuthenticationException.class, e ->
+                assertThat(e.getError().getErrorCode()).isEqualTo(ErrorCode.EMAIL_ALREADY_EXISTS.getCode()));
+    }
+
+    @Test
+    void 비활성_계정은_거부한다() {
+        when(jdbcTemplate.query(contains("UPDATE users"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(invocation -> List.of(mapRow(invocation, "INACTIVE")));
+
+        assertThatThrownBy(() -> service.upsert(Provider.GOOGLE, ATTRIBUTES, null))
+            .isInstanceOfSatisfying(OAuth2AuthenticationException.class, e ->
+                assertThat(e.getError().getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_INACTIVE.getCode()));
+    }
+
+    private static Object mapRow(final InvocationOnMock invocation, final String status) throws SQLException {
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(10L);
+        when(rs.getString("email")).thenReturn("user@test.com");
+        when(rs.getString("name")).thenReturn("사용자");
+        when(rs.getString("role")).thenReturn("USER");
+        when(rs.getString("status")).thenReturn(status);
+        when(rs.getInt("token_version")).thenReturn(0);
+
+        final RowMapper<?> rowMapper = invocation.getArgument(1);
+        return rowMapper.mapRow(rs, 0);
+    }
+}
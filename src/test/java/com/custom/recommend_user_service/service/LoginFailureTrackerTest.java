@@ -0,0 +1,118 @@
+package com.custom.recommend_user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.custom.recommend_user_service.repository.UserRepository;
+
+/**
+ * 로그인 실패 윈도우 / 잠금 전환
+ */
+class LoginFailureTrackerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String EMAIL = "user@example.com";
+    private static final int MAX_FAILURES = 3;
+    private static final long WINDOW_MINUTES = 30;
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(WINDOW_MINUTES).toMillis();
+
+    private UserRepository userRepository;
+    private UserCredentialCache userCredentialCache;
+    private LoginFailureTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCredentialCache = mock(UserCredentialCache.class);
+        tracker = new LoginFailureTracker(userRepository, userCredentialCache, MAX_FAILURES, WINDOW_MINUTES, 60, 1_000);
+    }
+
+    @Test
+    void 한도_미만의_실패는_DB에_쓰지_않는다() {
+        final long now = System.currentTimeMillis();
+
+        assertThat(tracker.recordFailure(USER_ID, EMAIL, now)).isEqualTo(1);
+        assertThat(tracker.recordFailure(USER_ID, EMAIL, now + 1_000)).isEqualTo(2);
+
+        verify(userRepository, never()).lockAccount(any(), any(), anyInt(), any());
+        verify(userCredentialCache, never()).invalidate(any());
+    }
+
+    @Test
+    void 윈도우_안에서_한도에_도달하면_계정을_잠근다() {
+        final long now = System.currentTimeMillis();
+        final LocalDateTime before = LocalDateTime.now();
+
+        tracker.recordFailure(USER_ID, EMAIL, now);
+        tracker.recordFailure(USER_ID, EMAIL, now + 1_000);
+        final int failCount = tracker.recordFailure(USER_ID, EMAIL, now + 2_000);
+
+        assertThat(failCount).isEqualTo(MAX_FAILURES);
+        verify(userRepository).lockAccount(
+            eq(USER_ID),
+            argThat(lockedUntil -> lockedUntil.isAfter(before.plusMinutes(59))),
+            eq(MAX_FAILURES),
+            argThat(lockedAt -> !lockedAt.isBefore(before))
+        );
+        verify(userCredentialCache).invalidate(EMAIL);
+    }
+
+    @Test
+    void 잠금_후에는_실패_횟수를_처음부터_센다() {
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            tracker.recordFailure(USER_ID, EMAIL, now + i);
+        }
+
+        assertThat(tracker.recordFailure(USER_ID, EMAIL, now + 10)).isEqualTo(1);
+        verify(userRepository, times(1)).lockAccount(eq(USER_ID), any(), anyInt(), any());
+    }
+
+    @Test
+    void 윈도우_밖의_실패는_세지_않는다() {
+        final long start = System.currentTimeMillis();
+
+        tracker.recordFailure(USER_ID, EMAIL, start);
+        tracker.recordFailure(USER_ID, EMAIL, start + 1_000);
+        final int failCount = tracker.recordFailure(USER_ID, EMAIL, start + WINDOW_MILLIS + 500);
+
+        // 첫 실패만 윈도우 밖
+        assertThat(failCount).isEqualTo(2);
+        verify(userRepository, never()).lockAccount(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void 로그인에_성공하면_실패_기록을_지운다() {
+        final long now = System.currentTimeMillis();
+        tracker.recordFailure(USER_ID, EMAIL, now);
+        tracker.recordFailure(USER_ID, EMAIL, now + 1_000);
+
+        tracker.reset(USER_ID);
+
+        assertThat(tracker.recordFailure(USER_ID, EMAIL, now + 2_000)).isEqualTo(1);
+        verify(userRepository, never()).lockAccount(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void 사용자별로_따로_센다() {
+        final long now = System.currentTimeMillis();
+        tracker.recordFailure(USER_ID, EMAIL, now);
+        tracker.recordFailure(USER_ID, EMAIL, now + 1);
+
+        assertThat(tracker.recordFailure(2L, "other@example.com", now + 2)).isEqualTo(1);
+        verify(userRepository, never()).lockAccount(any(), any(), anyInt(), any());
+    }
+}
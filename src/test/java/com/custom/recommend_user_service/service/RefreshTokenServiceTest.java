@@ -0,0 +1,129 @@
+package com.custom.recommend_user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.custom.recommend_user_service.dto.response.TokenResponse;
+import com.custom.recommend_user_service.enums.ErrorCode;
+import com.custom.recommend_user_service.enums.Role;
+import com.custom.recommend_user_service.exception.ApiException;
+import com.custom.recommend_user_service.security.jwt.JwtTokenProvider;
+import com.custom.recommend_user_service.security.jwt.TokenVersionRegistry;
+import com.custom.recommend_user_service.service.RefreshTokenStore.RefreshTokenRecord;
+
+/**
+ * 토큰 발급 / 회전
+ */
+class RefreshTokenServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenStore refreshTokenStore;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        tokenVersionRegistry = mock(TokenVersionRegistry.class);
+        refreshTokenService = new RefreshTokenService(jwtTokenProvider, refreshTokenStore, tokenVersionRegistry, 3600);
+
+        when(jwtTokenProvider.createAccessToken(anyLong(), anyString(), anyInt())).thenReturn("access-token");
+    }
+
+    @Test
+    void 저장되면_토큰을_발급한다() {
+        when(refreshTokenStore.save(anyString(), any())).thenReturn(true);
+
+        final TokenResponse tokens = refreshTokenService.issue(USER_ID, Role.USER, 0);
+
+        assertThat(tokens.accessToken()).isEqualTo("access-token");
+        assertThat(tokens.refreshToken()).isNotBlank();
+    }
+
+    @Test
+    void 활성_사용자가_아니면_발급을_거부한다() {
+        // 저장소가 users 행 상태/토큰 버전 불일치로 INSERT 하지 않음
+        when(refreshTokenStore.save(anyString(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> refreshTokenService.issue(USER_ID, Role.USER, 0))
+            .isInstanceOf(ApiException.class)
+            .extracting(e -> ((ApiException) e).getResultCode())
+            .isEqualTo(ErrorCode.LOGIN_FAILED);
+        verify(jwtTokenProvider, never()).createAccessToken(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void 재발급은_같은_family로_새_토큰을_만든다() {
+        when(refreshTokenStore.consume(anyString())).thenReturn(Optional.of(record(1)));
+        when(refreshTokenStore.save(anyString(), any())).thenReturn(true);
+
+        final TokenResponse tokens = refreshTokenService.rotate("refresh-token");
+
+        assertThat(tokens.refreshToken()).isNotEqualTo("refresh-token");
+        verify(refreshTokenStore).save(anyString(), argThat(saved -> saved.familyId().equals("family-1")
+            && saved.tokenVersion() == 1));
+    }
+
+    @Test
+    void 사용된_토큰으로는_재발급하지_않는다() {
+        when(refreshTokenStore.consume(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("refresh-token"))
+            .isInstanceOf(ApiException.class)
+            .extracting(e -> ((ApiException) e).getResultCode())
+            .isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        verify(refreshTokenStore, never()).save(anyString(), any());
+    }
+
+    @Test
+    void 토큰_버전이_바뀌기_전에_발급된_토큰은_거부한다() {
+        when(refreshTokenStore.consume(anyString())).thenReturn(Optional.of(record(1)));
+        when(tokenVersionRegistry.isStale(USER_ID, 1)).thenReturn(true);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("refresh-token"))
+            .isInstanceOf(ApiException.class)
+            .extracting(e -> ((ApiException) e).getResultCode())
+            .isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        verify(refreshTokenStore, never()).save(anyString(), any());
+    }
+
+    @Test
+    void 활성_사용자가_아니면_재발급을_거부한다() {
+        when(refreshTokenStore.consume(anyString())).thenReturn(Optional.of(record(1)));
+        when(refreshTokenStore.save(anyString(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("refresh-token"))
+            .isInstanceOf(ApiException.class)
+            .extracting(e -> ((ApiException) e).getResultCode())
+            .isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    void 폐기는_원문이_아니라_토큰_해시로_한다() {
+        refreshTokenService.revoke("refresh-token");
+
+        verify(refreshTokenStore).revoke(argThat(hash -> !hash.equals("refresh-token") && hash.length() == 43));
+    }
+
+    private static RefreshTokenRecord record(final int tokenVersion) {
+        return new RefreshTokenRecord("family-1", USER_ID, Role.USER, tokenVersion, Instant.now().plusSeconds(60));
+    }
+}
@@ -0,0 +1,156 @@
+package com.custom.recommend_user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.custom.recommend_user_service.enums.Role;
+import com.custom.recommend_user_service.service.RefreshTokenStore.RefreshTokenRecord;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Refresh Token 1회 사용 / 재사용 감지 시 family 폐기
+ */
+class RefreshTokenStoreTest {
+
+    private static final String TOKEN_HASH = "token-hash";
+    private static final String FAMILY_ID = "family-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        store = new RefreshTokenStore(jdbcTemplate, meterRegistry);
+
+        when(jdbcTemplate.query(contains("SET used_at"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of());
+        when(jdbcTemplate.query(contains("SELECT family_id, used_at"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of());
+    }
+
+    @Test
+    void 사용_가능한_토큰은_UPDATE_한_번으로_조회와_사용_처리를_한다() {
+        when(jdbcTemplate.query(contains("SET used_at"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(invocation -> List.of(mapActive(invocation)));
+
+        assertThat(store.consume(TOKEN_HASH)).map(RefreshTokenRecord::familyId).contains(FAMILY_ID);
+
+        verify(jdbcTemplate, never()).query(contains("SELECT family_id, used_at"), any(RowMapper.class), any(Object[].class));
+        verify(jdbcTemplate, never()).update(contains("SET revoked_at"), any(Object[].class));
+    }
+
+    @Test
+    void 사용된_토큰이_다시_오면_family를_폐기하고_재사용으로_센다() {
+        givenState(true, false);
+
+        assertThat(store.consume(TOKEN_HASH)).isEmpty();
+
+        verify(jdbcTemplate).update(contains("SET revoked_at"), any(), eq(FAMILY_ID));
+        assertThat(reuseCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 이미_폐기된_family의_토큰은_거부만_한다() {
+        // 로그아웃으로 폐기된 family
+        givenState(false, true);
+
+        assertThat(store.consume(TOKEN_HASH)).isEmpty();
+
+        verify(jdbcTemplate, never()).update(contains("SET revoked_at"), any(Object[].class));
+        assertThat(reuseCount()).isZero();
+    }
+
+    @Test
+    void 사용_후_폐기된_토큰도_재사용으로_세지_않는다() {
+        givenState(true, true);
+
+        assertThat(store.consume(TOKEN_HASH)).isEmpty();
+
+        verify(jdbcTemplate, never()).update(contains("SET revoked_at"), any(Object[].class));
+        assertThat(reuseCount()).isZero();
+    }
+
+    @Test
+    void 만료된_토큰은_family를_폐기하지_않는다() {
+        // 만료: UPDATE 조건(expires_at > now)에 걸려 사용 처리되지 않음, 사용/폐기 기록 없음
+        givenState(false, false);
+
+        assertThat(store.consume(TOKEN_HASH)).isEmpty();
+
+        verify(jdbcTemplate, never()).update(contains("SET revoked_at"), any(Object[].class));
+        assertThat(reuseCount()).isZero();
+    }
+
+    @Test
+    void 모르는_토큰은_무시한다() {
+        assertThat(store.consume("unknown")).isEmpty();
+
+        verify(jdbcTemplate, never()).update(contains("SET revoked_at"), any(Object[].class));
+        assertThat(reuseCount()).isZero();
+    }
+
+    @Test
+    void 발급이_거부되면_false() {
+        when(jdbcTemplate.update(contains("INSERT INTO refresh_tokens"), any(Object[].class))).thenReturn(0);
+
+        assertThat(store.save(TOKEN_HASH, new RefreshTokenRecord(
+            FAMILY_ID, 1L, Role.USER, 0, Instant.now().plusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    void 로그아웃은_폐기되지_않은_family만_폐기한다() {
+        givenState(false, false);
+
+        store.revoke(TOKEN_HASH);
+
+        verify(jdbcTemplate).update(contains("SET revoked_at"), any(), eq(FAMILY_ID));
+        assertThat(reuseCount()).isZero();
+    }
+
+    private void givenState(final boolean used, final boolean revoked) {
+        when(jdbcTemplate.query(contains("SELECT family_id, used_at"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(invocation -> {
+                final ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("family_id")).thenReturn(FAMILY_ID);
+                when(rs.getTimestamp("used_at")).thenReturn(used ? Timestamp.from(Instant.now()) : null);
+                when(rs.getTimestamp("revoked_at")).thenReturn(revoked ? Timestamp.from(Instant.now()) : null);
+                return List.of(((RowMapper<?>) invocation.getArgument(1)).mapRow(rs, 0));
+            });
+    }
+
+    private static Object mapActive(final InvocationOnMock invocation) throws SQLException {
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("family_id")).thenReturn(FAMILY_ID);
+        when(rs.getLong("user_id")).thenReturn(1L);
+        when(rs.getString("role")).thenReturn("USER");
+        when(rs.getInt("token_version")).thenReturn(0);
+        when(rs.getTimestamp("expires_at")).thenReturn(Timestamp.from(Instant.now().plusSeconds(60)));
+        return ((RowMapper<?>) invocation.getArgument(1)).mapRow(rs, 0);
+    }
+
+    private double reuseCount() {
+        return meterRegistry.get("jwt.refresh_token.reuse_detected").counter().count();
+    }
+}
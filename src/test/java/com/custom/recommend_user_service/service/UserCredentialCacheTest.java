@@ -0,0 +1,97 @@
+package com.custom.recommend_user_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.custom.recommend_user_service.enums.Role;
+import com.custom.recommend_user_service.enums.UserStatus;
+import com.custom.recommend_user_service.repository.LoginRepository;
+import com.custom.recommend_user_service.repository.projection.UserCredential;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인 캐시 적중 / 다른 노드 변경 반영
+ */
+class UserCredentialCacheTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private LoginRepository loginRepository;
+    private JdbcTemplate jdbcTemplate;
+    private UserCredentialCache cache;
+
+    @BeforeEach
+    void setUp() {
+        loginRepository = mock(LoginRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        cache = new UserCredentialCache(loginRepository, jdbcTemplate, new SimpleMeterRegistry(), 1_000, 60);
+    }
+
+    @Test
+    void 활성_사용자는_캐시에서_조회한다() {
+        when(loginRepository.findCredentialByEmail(EMAIL)).thenReturn(Optional.of(credential(UserStatus.ACTIVE, 0)));
+
+        assertThat(cache.get(EMAIL)).map(UserCredential::status).contains(UserStatus.ACTIVE);
+        assertThat(cache.get(EMAIL)).map(UserCredential::status).contains(UserStatus.ACTIVE);
+
+        verify(loginRepository, times(1)).findCredentialByEmail(EMAIL);
+    }
+
+    @Test
+    void 비활성_사용자는_캐시하지_않는다() {
+        when(loginRepository.findCredentialByEmail(EMAIL)).thenReturn(Optional.of(credential(UserStatus.INACTIVE, 1)));
+
+        assertThat(cache.get(EMAIL)).map(UserCredential::status).contains(UserStatus.INACTIVE);
+        assertThat(cache.get(EMAIL)).map(UserCredential::status).contains(UserStatus.INACTIVE);
+
+        verify(loginRepository, times(2)).findCredentialByEmail(EMAIL);
+    }
+
+    @Test
+    void 다른_노드에서_바뀐_사용자는_동기화_때_캐시에서_뺀다() {
+        when(loginRepository.findCredentialByEmail(EMAIL))
+            .thenReturn(Optional.of(credential(UserStatus.ACTIVE, 0)))
+            .thenReturn(Optional.of(credential(UserStatus.DELETED, 1)));
+        cache.get(EMAIL);
+
+        // 다른 노드에서 탈퇴 처리 (token_version_updated_at 갱신)
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Timestamp.class)))
+            .thenReturn(List.of(EMAIL));
+        cache.sync();
+
+        assertThat(cache.get(EMAIL)).map(UserCredential::status).contains(UserStatus.DELETED);
+        verify(loginRepository, times(2)).findCredentialByEmail(EMAIL);
+    }
+
+    @Test
+    void 바뀌지_않은_사용자는_동기화_후에도_캐시에_남는다() {
+        when(loginRepository.findCredentialByEmail(EMAIL)).thenReturn(Optional.of(credential(UserStatus.ACTIVE, 0)));
+        cache.get(EMAIL);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Timestamp.class)))
+            .thenReturn(List.of("other@example.com"));
+        cache.sync();
+        cache.get(EMAIL);
+
+        verify(loginRepository, times(1)).findCredentialByEmail(EMAIL);
+    }
+
+    private static UserCredential credential(final UserStatus status, final int tokenVersion) {
+        return new UserCredential(1L, EMAIL, "{bcrypt}hash", "사용자", null, Role.USER, status, null, null, tokenVersion);
+    }
+}